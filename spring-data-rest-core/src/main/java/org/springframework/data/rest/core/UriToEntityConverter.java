@@ -15,23 +15,37 @@
  */
 package org.springframework.data.rest.core;
 
+import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.DefaultRepositoryInvokerFactory;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.UnwrappingRepositoryInvokerFactory;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link GenericConverter} that can convert a {@link URI} into an entity.
@@ -46,7 +60,9 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	private final PersistentEntities entities;
 	private final RepositoryInvokerFactory invokerFactory;
 	private final Repositories repositories;
+	private final @Nullable ConversionService conversionService;
 	private final Set<ConvertiblePair> convertiblePairs;
+	private final Map<Class<?>, Boolean> batchLookupSupport = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
@@ -58,6 +74,24 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	 */
 	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
 			Repositories repositories) {
+		this(entities, invokerFactory, repositories, null);
+	}
+
+	/**
+	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory}, {@link Repositories} and {@link ConversionService}. The latter is used to convert
+	 * the identifiers extracted from {@link URI}s when looking up multiple entities at once and should be the one the
+	 * {@link RepositoryInvokerFactory} uses. Without it, {@link #convertAll(List, TypeDescriptor)} resolves the
+	 * {@link URI}s one by one.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param conversionService can be {@literal null}.
+	 * @since 4.1
+	 */
+	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Repositories repositories, @Nullable ConversionService conversionService) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null");
 		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null");
@@ -79,6 +113,7 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 		this.entities = entities;
 		this.invokerFactory = invokerFactory;
 		this.repositories = repositories;
+		this.conversionService = conversionService;
 	}
 
 	@Override
@@ -103,14 +138,143 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 					new IllegalArgumentException("No PersistentEntity information available for " + targetType.getType()));
 		}
 
-		URI uri = (URI) source;
+		Object id = getIdSource((URI) source, sourceType, targetType);
+
+		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindById(id).orElse(null);
+	}
+
+	/**
+	 * Converts all given {@link URI}s into entities of the given target type. If a {@link ConversionService} was
+	 * configured and the backing repository is a plain {@link CrudRepository} that neither customizes the lookup by
+	 * identifier nor uses a custom {@link org.springframework.data.rest.core.support.EntityLookup}, all entities are
+	 * loaded using a single {@link CrudRepository#findAllById(Iterable)} invocation. Otherwise, the {@link URI}s are
+	 * resolved one by one.
+	 *
+	 * @param uris must not be {@literal null}, can contain {@literal null} elements.
+	 * @param targetType must not be {@literal null}.
+	 * @return the entities in the order of the given {@link URI}s, {@literal null} for the ones that could not be
+	 *         resolved.
+	 * @since 4.1
+	 */
+	public List<Object> convertAll(List<URI> uris, TypeDescriptor targetType) {
+
+		Assert.notNull(uris, "URIs must not be null");
+		Assert.notNull(targetType, "Target type must not be null");
+
+		List<Object> result = new ArrayList<>(uris.size());
+		Class<?> type = targetType.getType();
+
+		if (uris.size() < 2 || !supportsBatchLookup(type)) {
+
+			for (URI uri : uris) {
+				result.add(uri == null ? null : convert(uri, URI_TYPE, targetType));
+			}
+
+			return result;
+		}
+
+		PersistentEntity<?, ? extends PersistentProperty<?>> entity = entities.getRequiredPersistentEntity(type);
+		Class<?> idType = repositories.getRequiredRepositoryInformation(type).getIdType();
+
+		List<Object> ids = new ArrayList<>(uris.size());
+		Set<Object> uniqueIds = new LinkedHashSet<>(uris.size());
+
+		for (URI uri : uris) {
+
+			Object id = uri == null ? null : conversionService.convert(getIdSource(uri, URI_TYPE, targetType), idType);
+
+			ids.add(id);
+
+			if (id != null) {
+				uniqueIds.add(id);
+			}
+		}
+
+		Map<Object, Object> entitiesById = new HashMap<>(uniqueIds.size());
+
+		for (Object candidate : getRequiredCrudRepository(type).findAllById(uniqueIds)) {
+			entitiesById.put(entity.getIdentifierAccessor(candidate).getIdentifier(), candidate);
+		}
+
+		for (Object id : ids) {
+			result.add(id == null ? null : entitiesById.get(id));
+		}
+
+		return result;
+	}
+
+	private Object getIdSource(URI uri, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
 		String[] parts = uri.getPath().split("/");
 
 		if (parts.length < 2) {
-			throw new ConversionFailedException(sourceType, targetType, source, new IllegalArgumentException(
+			throw new ConversionFailedException(sourceType, targetType, uri, new IllegalArgumentException(
 					"Cannot resolve URI " + uri + "; Is it local or remote; Only local URIs are resolvable"));
 		}
 
-		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindById(parts[parts.length - 1]).orElse(null);
+		return parts[parts.length - 1];
+	}
+
+	/**
+	 * Returns whether entities of the given type can be looked up in batches, i.e. whether the configured
+	 * {@link ConversionService} can convert their identifiers, the repository is a {@link CrudRepository} that uses the
+	 * base class implementations of {@code findById(…)} and {@code findAllById(…)} and the lookup by URI is not customized
+	 * via an {@link org.springframework.data.rest.core.support.EntityLookup}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private boolean supportsBatchLookup(Class<?> type) {
+
+		return batchLookupSupport.computeIfAbsent(type, it -> {
+
+			boolean defaultLookup = invokerFactory instanceof UnwrappingRepositoryInvokerFactory
+					? !((UnwrappingRepositoryInvokerFactory) invokerFactory).hasEntityLookupFor(it)
+					: invokerFactory instanceof DefaultRepositoryInvokerFactory;
+
+			if (conversionService == null || !defaultLookup || !entities.getPersistentEntity(it).isPresent()) {
+				return false;
+			}
+
+			return repositories.getRepositoryInformationFor(it) //
+					.filter(information -> CrudRepository.class.isAssignableFrom(information.getRepositoryInterface())) //
+					.filter(information -> conversionService.canConvert(String.class, information.getIdType())) //
+					.filter(UriToEntityConverter::usesDefaultLookupMethods) //
+					.isPresent();
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private CrudRepository<Object, Object> getRequiredCrudRepository(Class<?> type) {
+
+		return repositories.getRepositoryFor(type) //
+				.map(CrudRepository.class::cast) //
+				.orElseThrow(() -> new IllegalStateException("No CrudRepository found for " + type));
+	}
+
+	/**
+	 * Returns whether the lookup methods of the repository are the ones implemented by the repository base class, i.e.
+	 * neither backed by a repository fragment nor redeclared in an interface not implemented by the base class, e.g. to
+	 * apply security annotations.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean usesDefaultLookupMethods(RepositoryInformation information) {
+
+		Method findAllById = ReflectionUtils.findMethod(information.getRepositoryInterface(), "findAllById",
+				Iterable.class);
+
+		return findAllById != null && isBaseClassMethod(findAllById, information) //
+				&& information.getCrudMethods().getFindOneMethod() //
+						.filter(it -> isBaseClassMethod(it, information)) //
+						.isPresent();
+	}
+
+	private static boolean isBaseClassMethod(Method method, RepositoryInformation information) {
+
+		return !information.isCustomMethod(method) //
+				&& information.isBaseClassMethod(method) //
+				&& method.getDeclaringClass().isAssignableFrom(information.getRepositoryBaseClass());
 	}
 }
@@ -15,11 +15,13 @@
  */
 package org.springframework.data.rest.core.config;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
+import org.springframework.http.CacheControl;
 import org.springframework.util.Assert;
 
 /**
@@ -33,6 +35,9 @@ public class MetadataConfiguration {
 	private final Map<Class<?>, Pattern> patterns = new HashMap<Class<?>, Pattern>();
 	private boolean omitUnresolvableDescriptionKeys = true;
 	private boolean alpsEnabled = true;
+	private CacheControl cacheControl = CacheControl.noCache();
+	private int lookupTypeEnumerationLimit = 100;
+	private Duration lookupTypeEnumerationTimeToLive = Duration.ofMinutes(10);
 
 	/**
 	 * Configures whether to omit documentation attributes for unresolvable resource bundle keys. Defaults to
@@ -73,6 +78,86 @@ public class MetadataConfiguration {
 		return alpsEnabled;
 	}
 
+	/**
+	 * Configures the {@link CacheControl} to be used for the JSON Schema and ALPS documents. Defaults to
+	 * {@link CacheControl#noCache()}, i.e. clients have to revalidate the documents using the ETag handed out with them.
+	 *
+	 * @param cacheControl must not be {@literal null}.
+	 * @since 4.1
+	 */
+	public void setCacheControl(CacheControl cacheControl) {
+
+		Assert.notNull(cacheControl, "CacheControl must not be null");
+
+		this.cacheControl = cacheControl;
+	}
+
+	/**
+	 * Returns the {@link CacheControl} to be used for the JSON Schema and ALPS documents.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 4.1
+	 */
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
+	/**
+	 * Configures the maximum number of values of a lookup type to be enumerated in the JSON Schema of properties
+	 * referring to it. Properties referring to lookup types with more values are described as plain strings. Defaults to
+	 * 100, a limit of 0 disables the enumeration entirely. Values beyond {@code Integer.MAX_VALUE - 1} are capped as one
+	 * more value than the limit is read to detect lookup types exceeding it.
+	 * <p>
+	 * The values are read through a {@code Slice<T> findAllBy(Pageable)} query method if the repository of the lookup
+	 * type declares one. Otherwise they're read through {@code findAll(Pageable)}, which issues an additional count
+	 * query for paging repositories.
+	 *
+	 * @param lookupTypeEnumerationLimit must not be negative.
+	 * @since 4.1
+	 * @see RepositoryRestConfiguration#isLookupType(Class)
+	 */
+	public void setLookupTypeEnumerationLimit(int lookupTypeEnumerationLimit) {
+
+		Assert.isTrue(lookupTypeEnumerationLimit >= 0, "Lookup type enumeration limit must not be negative");
+
+		this.lookupTypeEnumerationLimit = Math.min(lookupTypeEnumerationLimit, Integer.MAX_VALUE - 1);
+	}
+
+	/**
+	 * Returns the maximum number of values of a lookup type to be enumerated in the JSON Schema.
+	 *
+	 * @return
+	 * @since 4.1
+	 */
+	public int getLookupTypeEnumerationLimit() {
+		return lookupTypeEnumerationLimit;
+	}
+
+	/**
+	 * Configures for how long the values of a lookup type enumerated in the JSON Schema are cached before they're read
+	 * from the repository again. Defaults to 10 minutes, {@link Duration#ZERO} disables caching.
+	 *
+	 * @param lookupTypeEnumerationTimeToLive must not be {@literal null} or negative.
+	 * @since 4.1
+	 */
+	public void setLookupTypeEnumerationTimeToLive(Duration lookupTypeEnumerationTimeToLive) {
+
+		Assert.notNull(lookupTypeEnumerationTimeToLive, "Time to live must not be null");
+		Assert.isTrue(!lookupTypeEnumerationTimeToLive.isNegative(), "Time to live must not be negative");
+
+		this.lookupTypeEnumerationTimeToLive = lookupTypeEnumerationTimeToLive;
+	}
+
+	/**
+	 * Returns for how long the values of a lookup type enumerated in the JSON Schema are cached.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 4.1
+	 */
+	public Duration getLookupTypeEnumerationTimeToLive() {
+		return lookupTypeEnumerationTimeToLive;
+	}
+
 	public void registerJsonSchemaFormat(JsonSchemaFormat format, Class<?>... types) {
 
 		Assert.notNull(format, "JsonSchemaFormat must not be null");
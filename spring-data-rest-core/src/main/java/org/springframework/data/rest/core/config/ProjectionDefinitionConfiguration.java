@@ -15,11 +15,13 @@
  */
 package org.springframework.data.rest.core.config;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.rest.core.projection.ProjectionDefinitions;
@@ -29,7 +31,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Wrapper class to register projection definitions for later lookup by name and source type.
+ * Wrapper class to register projection definitions for later lookup by name and source type. Lookups are indexed by
+ * source type so that they don't have to scan all registered definitions repeatedly.
  *
  * @author Oliver Gierke
  */
@@ -39,6 +42,8 @@ public class ProjectionDefinitionConfiguration implements ProjectionDefinitions
 	private static final String DEFAULT_PROJECTION_PARAMETER_NAME = "projection";
 
 	private final Set<ProjectionDefinition> projectionDefinitions;
+	private final Map<Class<?>, Map<String, Class<?>>> projectionsBySourceType = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> hasProjections = new ConcurrentHashMap<>();
 	private String parameterName = DEFAULT_PROJECTION_PARAMETER_NAME;
 
 	/**
@@ -122,6 +127,9 @@ public class ProjectionDefinitionConfiguration implements ProjectionDefinitions
 			this.projectionDefinitions.add(ProjectionDefinition.of(sourceType, projectionType, name));
 		}
 
+		this.projectionsBySourceType.clear();
+		this.hasProjections.clear();
+
 		return this;
 	}
 
@@ -133,26 +141,35 @@ public class ProjectionDefinitionConfiguration implements ProjectionDefinitions
 	@Override
 	public boolean hasProjectionFor(Class<?> sourceType) {
 
-		for (ProjectionDefinition definition : projectionDefinitions) {
+		return hasProjections.computeIfAbsent(sourceType, it -> {
 
-			if (definition.sourceType.isAssignableFrom(sourceType)) {
-				return true;
+			for (ProjectionDefinition definition : projectionDefinitions) {
+
+				if (definition.sourceType.isAssignableFrom(it)) {
+					return true;
+				}
 			}
-		}
 
-		return false;
+			return false;
+		});
 	}
 
 	/**
-	 * Returns all projections registered for the given source type.
+	 * Returns all projections registered for the given source type. The result is computed once per source type and
+	 * only recomputed if further projections are added.
 	 *
 	 * @param sourceType must not be {@literal null}.
-	 * @return
+	 * @return an immutable {@link Map} of projection names to projection types.
 	 */
 	public Map<String, Class<?>> getProjectionsFor(Class<?> sourceType) {
 
 		Assert.notNull(sourceType, "Source type must not be null");
 
+		return projectionsBySourceType.computeIfAbsent(sourceType, this::lookupProjectionsFor);
+	}
+
+	private Map<String, Class<?>> lookupProjectionsFor(Class<?> sourceType) {
+
 		Class<?> userType = ProxyUtils.getUserClass(sourceType);
 		Map<String, ProjectionDefinition> byName = new HashMap<String, ProjectionDefinition>();
 		Map<String, Class<?>> result = new HashMap<String, Class<?>>();
@@ -171,7 +188,7 @@ public class ProjectionDefinitionConfiguration implements ProjectionDefinitions
 			}
 		}
 
-		return result;
+		return Collections.unmodifiableMap(result);
 	}
 
 	private static boolean isSubTypeOf(Class<?> left, Class<?> right) {
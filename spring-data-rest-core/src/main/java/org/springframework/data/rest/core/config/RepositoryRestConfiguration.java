@@ -76,6 +76,13 @@ public class RepositoryRestConfiguration {
 
 	private LinkRelationProvider linkRelationProvider;
 	private boolean enableEnumTranslation = false;
+	private boolean streamUnpagedCollectionResources = false;
+	private boolean applyPatchesIncrementally = false;
+	private long itemResourceCacheSize = 0;
+	private List<Class<?>> keysetPaginationFor = new ArrayList<Class<?>>();
+	private String cursorParamName = "cursor";
+	private List<Class<?>> countQueriesDisabledFor = new ArrayList<Class<?>>();
+	private boolean generateProjectionImplementations = false;
 
 	/**
 	 * Creates a new {@link RepositoryRestConfiguration} with the given {@link ProjectionDefinitionConfiguration}.
@@ -719,4 +726,224 @@ public class RepositoryRestConfiguration {
 	public ExposureConfiguration getExposureConfiguration() {
 		return this.exposureConfiguration;
 	}
+
+	/**
+	 * Configures whether unpaged collection resources, i.e. the ones backed by repositories that do not support
+	 * pagination, are rendered in a streaming fashion. If enabled, the entities returned by the repository are turned
+	 * into resources and written to the response one by one instead of materializing the entire representation model
+	 * upfront. Defaults to {@literal false}.
+	 *
+	 * @param streamUnpagedCollectionResources
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration setStreamUnpagedCollectionResources(boolean streamUnpagedCollectionResources) {
+
+		this.streamUnpagedCollectionResources = streamUnpagedCollectionResources;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether unpaged collection resources are rendered in a streaming fashion.
+	 *
+	 * @return
+	 * @since 4.1
+	 * @see #setStreamUnpagedCollectionResources(boolean)
+	 */
+	public boolean isStreamUnpagedCollectionResources() {
+		return this.streamUnpagedCollectionResources;
+	}
+
+	/**
+	 * Configures whether the bodies of {@code PATCH} requests are applied incrementally. If enabled, JSON Patch operations
+	 * and the top-level properties of JSON Merge Patch documents are read from the request one by one and applied to the
+	 * target object right away, instead of reading the entire document into a tree first. Note that this means that a
+	 * malformed document might only be detected after parts of it have already been applied to the (not yet persisted)
+	 * target object. Defaults to {@literal false}.
+	 *
+	 * @param applyPatchesIncrementally
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration setApplyPatchesIncrementally(boolean applyPatchesIncrementally) {
+
+		this.applyPatchesIncrementally = applyPatchesIncrementally;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the bodies of {@code PATCH} requests are applied incrementally.
+	 *
+	 * @return
+	 * @since 4.1
+	 * @see #setApplyPatchesIncrementally(boolean)
+	 */
+	public boolean isApplyPatchesIncrementally() {
+		return this.applyPatchesIncrementally;
+	}
+
+	/**
+	 * Configures the maximum number of bytes (approximately) to be used to cache the rendered representations of item
+	 * resources. Representations are only cached for entities with a version property and are keyed by the entity's
+	 * identifier and version, the request URI, the headers influencing the representation (including
+	 * {@code Authorization} and {@code Accept-Language}), the authenticated principal and the current locale. A value of
+	 * {@literal 0} disables the cache. Defaults to {@literal 0}.
+	 * <p>
+	 * Note that cached representations will not reflect changes to related entities that are embedded into the
+	 * representation as long as the version of the entity itself doesn't change. Also, the cache must not be enabled
+	 * if the representation depends on any other request state, e.g. if a {@code RepresentationModelProcessor} adds
+	 * links based on session attributes or cookies, as such representations would be served to other clients.
+	 *
+	 * @param itemResourceCacheSize must not be negative.
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration setItemResourceCacheSize(long itemResourceCacheSize) {
+
+		Assert.isTrue(itemResourceCacheSize >= 0, "Item resource cache size must not be negative");
+
+		this.itemResourceCacheSize = itemResourceCacheSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of bytes to be used to cache the rendered representations of item resources.
+	 *
+	 * @return
+	 * @since 4.1
+	 * @see #setItemResourceCacheSize(long)
+	 */
+	public long getItemResourceCacheSize() {
+		return this.itemResourceCacheSize;
+	}
+
+	/**
+	 * Enables keyset pagination for the collection resources of the given domain types. Instead of using offset based
+	 * pages, the collection resource is then scrolled through using a {@link org.springframework.data.domain.ScrollPosition}
+	 * that is exposed as opaque cursor in {@code next} and {@code prev} links. Requires the repository to declare a query
+	 * method {@code Window<T> findAllBy(ScrollPosition position, Pageable pageable)}, alternatively taking a
+	 * {@link org.springframework.data.domain.Sort} instead of the {@link org.springframework.data.domain.Pageable}. That
+	 * method is invoked instead of {@code findAll(…)}, so that it has to apply the same filtering and security
+	 * constraints as the latter. Collection resources of repositories not declaring such a method as well as requests
+	 * filtered by a Querydsl predicate are still rendered as pages. Query methods declaring a
+	 * {@link org.springframework.data.domain.ScrollPosition} parameter use a keyset position for the first window in
+	 * case keyset pagination is enabled for the domain type they return.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration enableKeysetPaginationFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(keysetPaginationFor, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether keyset pagination is enabled for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 * @see #enableKeysetPaginationFor(Class...)
+	 */
+	public boolean isKeysetPaginationEnabledFor(Class<?> domainType) {
+		return keysetPaginationFor.contains(domainType);
+	}
+
+	/**
+	 * Returns the name of the URL query string parameter that carries the cursor to continue scrolling from. Defaults to
+	 * {@code cursor}.
+	 *
+	 * @return
+	 * @since 4.1
+	 */
+	public String getCursorParamName() {
+		return cursorParamName;
+	}
+
+	/**
+	 * Configures the name of the URL query string parameter that carries the cursor to continue scrolling from.
+	 *
+	 * @param cursorParamName must not be {@literal null} or empty.
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration setCursorParamName(String cursorParamName) {
+
+		Assert.hasText(cursorParamName, "Cursor param name must not be null or empty");
+
+		this.cursorParamName = cursorParamName;
+
+		return this;
+	}
+
+	/**
+	 * Disables the count query for the paged collection resources of the given domain types. Instead of a
+	 * {@link org.springframework.data.domain.Page}, a {@link org.springframework.data.domain.Slice} of the collection is
+	 * read and rendered with {@code next} and {@code prev} links only, i.e. without the total number of elements and
+	 * pages. Requires the repository to declare a {@code Slice<T> findAllBy(Pageable pageable)} query method which is
+	 * invoked instead of {@code findAll(…)} and thus has to apply the same filtering and security constraints.
+	 * Repositories not declaring such a method and requests filtered by a Querydsl predicate are still rendered as
+	 * {@link org.springframework.data.domain.Page}.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration disableCountQueriesFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(countQueriesDisabledFor, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the count query is disabled for the paged collection resource of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 * @see #disableCountQueriesFor(Class...)
+	 */
+	public boolean isCountQueryDisabledFor(Class<?> domainType) {
+		return countQueriesDisabledFor.contains(domainType);
+	}
+
+	/**
+	 * Configures whether to use generated classes implementing projection interfaces instead of JDK proxies to render
+	 * projections and excerpts. Implementations are generated on first use for projection interfaces that only consist
+	 * of accessors directly backed by a public getter of compatible type on the projected type. All other projections,
+	 * e.g. ones using {@link org.springframework.beans.factory.annotation.Value} expressions, nested projections or
+	 * type conversion, are still backed by proxies. Defaults to {@literal false}.
+	 *
+	 * @param generateProjectionImplementations
+	 * @return the current instance
+	 * @since 4.1
+	 */
+	public RepositoryRestConfiguration setGenerateProjectionImplementations(boolean generateProjectionImplementations) {
+
+		this.generateProjectionImplementations = generateProjectionImplementations;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether to use generated classes implementing projection interfaces instead of JDK proxies.
+	 *
+	 * @return
+	 * @since 4.1
+	 * @see #setGenerateProjectionImplementations(boolean)
+	 */
+	public boolean isGenerateProjectionImplementations() {
+		return generateProjectionImplementations;
+	}
 }
@@ -20,7 +20,9 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +54,7 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 	private static final String PARAMETER_MISSING = "Invalid event handler method %s; At least a single argument is required to determine the domain type for which you are interested in events";
 
 	private final MultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod>();
+	private final Map<Class<? extends RepositoryEvent>, Map<Class<?>, List<EventHandlerMethod>>> handlerMethodCache = new ConcurrentHashMap<>();
 
 	@Override
 	public void onApplicationEvent(RepositoryEvent event) {
@@ -62,29 +65,53 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 			return;
 		}
 
-		for (EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
+		Object src = event.getSource();
+		List<EventHandlerMethod> methods = getHandlerMethods(eventType, src.getClass());
 
-			Object src = event.getSource();
-
-			if (!ClassUtils.isAssignable(handlerMethod.targetType, src.getClass())) {
-				continue;
-			}
+		if (methods.isEmpty()) {
+			return;
+		}
 
-			List<Object> parameters = new ArrayList<Object>();
-			parameters.add(src);
+		Object[] parameters = event instanceof LinkedEntityEvent //
+				? new Object[] { src, ((LinkedEntityEvent) event).getLinked() } //
+				: new Object[] { src };
 
-			if (event instanceof LinkedEntityEvent) {
-				parameters.add(((LinkedEntityEvent) event).getLinked());
-			}
+		for (EventHandlerMethod handlerMethod : methods) {
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Invoking {} handler for {}", event.getClass().getSimpleName(), event.getSource());
 			}
 
-			ReflectionUtils.invokeMethod(handlerMethod.method, handlerMethod.handler, parameters.toArray());
+			ReflectionUtils.invokeMethod(handlerMethod.method, handlerMethod.handler, parameters);
 		}
 	}
 
+	/**
+	 * Returns all {@link EventHandlerMethod}s registered for the given event type that are applicable to the given source
+	 * type. The result is cached per event and source type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private List<EventHandlerMethod> getHandlerMethods(Class<? extends RepositoryEvent> eventType, Class<?> sourceType) {
+
+		return handlerMethodCache //
+				.computeIfAbsent(eventType, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(sourceType, it -> {
+
+					List<EventHandlerMethod> result = new ArrayList<>();
+
+					for (EventHandlerMethod handlerMethod : handlerMethods.getOrDefault(eventType, Collections.emptyList())) {
+						if (ClassUtils.isAssignable(handlerMethod.targetType, it)) {
+							result.add(handlerMethod);
+						}
+					}
+
+					return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+				});
+	}
+
 	@Override
 	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
 		return bean;
@@ -146,6 +173,8 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 			LOG.debug("Annotated handler method found: {}", handlerMethod);
 		}
 
+		handlerMethodCache.clear();
+
 		List<EventHandlerMethod> events = handlerMethods.get(eventType);
 
 		if (events == null) {
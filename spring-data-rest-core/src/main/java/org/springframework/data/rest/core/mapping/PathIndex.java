@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.springframework.data.rest.core.Path;
+import org.springframework.lang.Nullable;
+
+/**
+ * Index of {@link ResourceMapping}s by their {@link Path} to look them up by path reference in constant time. Lookups
+ * follow the semantics of {@link Path#matches(String)}, i.e. the reference may or may not contain the leading slash.
+ * Mappings registered for the same path that satisfy the given preference win over the ones that don't, otherwise the
+ * first one registered is kept.
+ *
+ * @since 4.1
+ */
+class PathIndex<T extends ResourceMapping> {
+
+	private static final String SLASH = "/";
+
+	private final Map<String, T> mappings = new HashMap<>();
+	private final Predicate<T> preference;
+
+	/**
+	 * Creates a new {@link PathIndex} preferring the {@link ResourceMapping}s matching the given {@link Predicate} in case
+	 * multiple ones are registered for the same path.
+	 *
+	 * @param preference must not be {@literal null}.
+	 */
+	PathIndex(Predicate<T> preference) {
+		this.preference = preference;
+	}
+
+	/**
+	 * Registers the given {@link ResourceMapping} under its {@link Path}.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 */
+	void add(T mapping) {
+
+		mappings.merge(toKey(mapping.getPath().toString()), mapping,
+				(existing, candidate) -> !preference.test(existing) && preference.test(candidate) ? candidate : existing);
+	}
+
+	/**
+	 * Returns the {@link ResourceMapping} registered for the given path reference.
+	 *
+	 * @param reference can be {@literal null}.
+	 * @return the {@link ResourceMapping} or {@literal null} if none found.
+	 */
+	@Nullable
+	T get(@Nullable String reference) {
+		return reference == null ? null : mappings.get(toKey(reference));
+	}
+
+	private static String toKey(String path) {
+		return path.startsWith(SLASH) ? path.substring(1) : path;
+	}
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -26,6 +27,7 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -44,6 +46,8 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	private final Map<Class<?>, MappingResourceMetadata> mappingCache = new ConcurrentHashMap<>();
 	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new ConcurrentHashMap<>();
 
+	private volatile @Nullable IndexedPaths paths;
+
 	/**
 	 * Creates a new {@link PersistentEntitiesResourceMappings} from the given {@link PersistentEntities}.
 	 *
@@ -102,13 +106,17 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 
 		Assert.hasText(path, "Path must not be null or empty");
 
-		for (ResourceMetadata metadata : this) {
-			if (metadata.getPath().matches(path)) {
-				return metadata.isExported();
-			}
-		}
+		ResourceMetadata metadata = getPaths().index.get(path);
+
+		return metadata != null && metadata.isExported();
+	}
+
+	@Override
+	public Optional<ResourceMetadata> getExportedMetadataForPath(String path) {
 
-		return false;
+		Assert.hasText(path, "Path must not be null or empty");
+
+		return Optional.ofNullable(getPaths().index.get(path)).filter(ResourceMetadata::isExported);
 	}
 
 	@Override
@@ -147,7 +155,9 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 * @param metadata can be {@literal null}.
 	 */
 	protected final void addToCache(Class<?> type, ResourceMetadata metadata) {
+
 		cache.put(type, metadata);
+		paths = null;
 	}
 
 	/**
@@ -159,4 +169,47 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	protected final boolean hasMetadataFor(Class<?> type) {
 		return cache.containsKey(type);
 	}
+
+	/**
+	 * Returns the {@link IndexedPaths} for the currently known {@link ResourceMetadata}, rebuilding them if metadata has
+	 * been added since they were built.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private IndexedPaths getPaths() {
+
+		IndexedPaths paths = this.paths;
+		int size = cache.size();
+
+		if (paths != null && paths.size == size) {
+			return paths;
+		}
+
+		PathIndex<ResourceMetadata> index = new PathIndex<>(ResourceMetadata::isExported);
+
+		for (ResourceMetadata metadata : this) {
+			index.add(metadata);
+		}
+
+		this.paths = paths = new IndexedPaths(index, size);
+
+		return paths;
+	}
+
+	/**
+	 * A {@link PathIndex} of {@link ResourceMetadata} alongside the size of the cache it was built from.
+	 *
+	 * @since 4.1
+	 */
+	private static class IndexedPaths {
+
+		private final PathIndex<ResourceMetadata> index;
+		private final int size;
+
+		IndexedPaths(PathIndex<ResourceMetadata> index, int size) {
+
+			this.index = index;
+			this.size = size;
+		}
+	}
 }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -42,6 +43,7 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 	private final Repositories repositories;
 	private final RepositoryRestConfiguration configuration;
 	private final Map<Class<?>, SearchResourceMappings> searchCache = new HashMap<Class<?>, SearchResourceMappings>();
+	private final PathIndex<ResourceMetadata> repositoryPaths = new PathIndex<>(ResourceMetadata::isExported);
 
 	/**
 	 * Creates a new {@link RepositoryResourceMappings} from the given {@link RepositoryRestConfiguration},
@@ -66,6 +68,8 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 
 	private void populateCache(PersistentEntities entities, RepositoryRestConfiguration configuration) {
 
+		List<Class<?>> domainTypes = new ArrayList<>();
+
 		for (PersistentEntity<?, ? extends PersistentProperty<?>> entity : entities) {
 
 			Class<?> type = entity.getType();
@@ -74,6 +78,8 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 				continue;
 			}
 
+			domainTypes.add(type);
+
 			RepositoryInformation repositoryInformation = repositories.getRequiredRepositoryInformation(type);
 			Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
 
@@ -91,6 +97,22 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 				addToCache(type, information);
 			}
 		}
+
+		for (Class<?> domainType : domainTypes) {
+			repositoryPaths.add(getMetadataFor(domainType));
+		}
+	}
+
+	/**
+	 * Only considers the {@link ResourceMetadata} of domain types managed by a repository so that metadata of other
+	 * types mapped to the same path is never returned.
+	 */
+	@Override
+	public Optional<ResourceMetadata> getExportedMetadataForPath(String path) {
+
+		Assert.hasText(path, "Path must not be null or empty");
+
+		return Optional.ofNullable(repositoryPaths.get(path)).filter(ResourceMetadata::isExported);
 	}
 
 	@Override
@@ -41,6 +41,7 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 	private static final LinkRelation REL = IanaLinkRelations.SEARCH;
 
 	private final Map<Path, MethodResourceMapping> mappings;
+	private final PathIndex<MethodResourceMapping> exportedMappings = new PathIndex<>(MethodResourceMapping::isExported);
 
 	/**
 	 * Creates a new {@link SearchResourceMappings} from the given
@@ -63,6 +64,10 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 			}
 
 			this.mappings.put(mapping.getPath(), mapping);
+
+			if (mapping.isExported()) {
+				this.exportedMappings.add(mapping);
+			}
 		}
 	}
 
@@ -120,14 +125,7 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 
 		Assert.hasText(path, "Path must not be null or empty");
 
-		for (MethodResourceMapping mapping : this) {
-
-			if (mapping.isExported() && mapping.getPath().matches(path)) {
-				return mapping;
-			}
-		}
-
-		return null;
+		return exportedMappings.get(path);
 	}
 
 	@Override
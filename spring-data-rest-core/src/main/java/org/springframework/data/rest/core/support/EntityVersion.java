@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Value object capturing the version information of an entity, i.e. the value of its version property and its last
+ * modification date, as obtained through an {@link EntityVersionProbe}.
+ *
+ * @since 4.1
+ * @see EntityVersionProbe
+ */
+public final class EntityVersion {
+
+	private final @Nullable Object version;
+	private final @Nullable Instant lastModified;
+
+	private EntityVersion(@Nullable Object version, @Nullable Instant lastModified) {
+
+		this.version = version;
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * Creates a new {@link EntityVersion} for the given version value and last modification date.
+	 *
+	 * @param version the value of the entity's version property, can be {@literal null}.
+	 * @param lastModified the entity's last modification date, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EntityVersion of(@Nullable Object version, @Nullable Instant lastModified) {
+		return new EntityVersion(version, lastModified);
+	}
+
+	/**
+	 * Returns the value of the entity's version property.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Object> getVersion() {
+		return Optional.ofNullable(version);
+	}
+
+	/**
+	 * Returns the entity's last modification date.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Instant> getLastModified() {
+		return Optional.ofNullable(lastModified);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof EntityVersion)) {
+			return false;
+		}
+
+		EntityVersion that = (EntityVersion) obj;
+
+		return Objects.equals(version, that.version) && Objects.equals(lastModified, that.lastModified);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(version, lastModified);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EntityVersion(version=%s, lastModified=%s)", version, lastModified);
+	}
+}
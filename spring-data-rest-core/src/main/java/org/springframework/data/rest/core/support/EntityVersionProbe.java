@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.Optional;
+
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up the version information of an entity without loading the entity itself. Used to answer conditional
+ * {@code GET} requests for item resources ({@code If-None-Match} and {@code If-Modified-Since}) without materializing
+ * the aggregate in case it has not been modified. Implementations will usually forward the call to a repository query
+ * method that only selects the version and last modification date columns. If no {@link EntityVersionProbe} is
+ * registered for a particular type, the entity will be loaded to evaluate the conditional request.
+ *
+ * @since 4.1
+ * @see EntityLookup
+ */
+public interface EntityVersionProbe<T> extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the {@link EntityVersion} of the entity with the given identifier. The identifier is the one used to look
+	 * up the item resource, i.e. it is the lookup property value in case an {@link EntityLookup} is registered for the
+	 * type.
+	 *
+	 * @param id will never be {@literal null}.
+	 * @return {@link Optional#empty()} in case no entity with the given identifier exists.
+	 */
+	Optional<EntityVersion> probe(Object id);
+}
@@ -17,8 +17,13 @@ package org.springframework.data.rest.core.support;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
@@ -31,7 +36,12 @@ import org.springframework.util.MultiValueMap;
 
 /**
  * {@link RepositoryInvokerFactory} that wraps the {@link RepositoryInvokerFactory} returned by the delegate with one
- * that automatically unwraps JDK 8 {@link Optional} and Guava {@link com.google.common.base.Optional}s.
+ * that automatically unwraps JDK 8 {@link Optional} and Guava {@link com.google.common.base.Optional}s. Invokers are
+ * created once per domain type and reused for subsequent lookups. Each of them keeps track of the number and duration
+ * of the invocations of {@link RepositoryInvoker#invokeFindById(Object)},
+ * {@link RepositoryInvoker#invokeSave(Object)} and
+ * {@link RepositoryInvoker#invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)}, see
+ * {@link #getInvocationStatistics(Class)}.
  *
  * @author Oliver Gierke
  */
@@ -39,6 +49,7 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 	private final RepositoryInvokerFactory delegate;
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final Map<Class<?>, UnwrappingRepositoryInvoker> invokers = new ConcurrentHashMap<>();
 
 	/**
 	 * @param delegate must not be {@literal null}.
@@ -56,12 +67,132 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 	@Override
 	public RepositoryInvoker getInvokerFor(Class<?> domainType) {
+		return invokers.computeIfAbsent(domainType, this::createInvokerFor);
+	}
+
+	/**
+	 * Returns whether a custom {@link EntityLookup} is registered for the given domain type, i.e. whether
+	 * {@link RepositoryInvoker#invokeFindById(Object)} of the invokers created by this factory does not necessarily look
+	 * up entities by their identifier.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 */
+	public boolean hasEntityLookupFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return lookups.hasPluginFor(domainType);
+	}
+
+	/**
+	 * Returns the {@link InvocationStatistics} for the {@link RepositoryInvoker} of the given domain type. Will be empty
+	 * in case no invoker has been obtained for that type yet.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 4.1
+	 */
+	public Optional<InvocationStatistics> getInvocationStatistics(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return Optional.ofNullable(invokers.get(domainType)).map(it -> it.statistics);
+	}
+
+	private UnwrappingRepositoryInvoker createInvokerFor(Class<?> domainType) {
 
 		Optional<EntityLookup<?>> lookup = lookups.getPluginFor(domainType);
 
 		return new UnwrappingRepositoryInvoker(delegate.getInvokerFor(domainType), lookup);
 	}
 
+	/**
+	 * Invocation counters and accumulated execution times of a single {@link RepositoryInvoker}.
+	 *
+	 * @since 4.1
+	 */
+	public static final class InvocationStatistics {
+
+		private final InvocationTimer findById = new InvocationTimer();
+		private final InvocationTimer save = new InvocationTimer();
+		private final InvocationTimer queryMethod = new InvocationTimer();
+
+		private InvocationStatistics() {}
+
+		/**
+		 * Returns the {@link InvocationTimer} for {@link RepositoryInvoker#invokeFindById(Object)}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public InvocationTimer getFindById() {
+			return findById;
+		}
+
+		/**
+		 * Returns the {@link InvocationTimer} for {@link RepositoryInvoker#invokeSave(Object)}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public InvocationTimer getSave() {
+			return save;
+		}
+
+		/**
+		 * Returns the {@link InvocationTimer} for
+		 * {@link RepositoryInvoker#invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public InvocationTimer getQueryMethod() {
+			return queryMethod;
+		}
+	}
+
+	/**
+	 * Counts invocations and accumulates their execution time.
+	 *
+	 * @since 4.1
+	 */
+	public static final class InvocationTimer {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		private InvocationTimer() {}
+
+		/**
+		 * Returns the number of invocations recorded, including the ones that failed with an exception.
+		 *
+		 * @return the number of recorded invocations.
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * Returns the accumulated execution time of all recorded invocations.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Duration getTotalTime() {
+			return Duration.ofNanos(totalNanos.sum());
+		}
+
+		<T> T record(Supplier<T> invocation) {
+
+			long start = System.nanoTime();
+
+			try {
+				return invocation.get();
+			} finally {
+				totalNanos.add(System.nanoTime() - start);
+				count.increment();
+			}
+		}
+	}
+
 	/**
 	 * {@link RepositoryInvoker} that post-processes invocations of {@link RepositoryInvoker#invokeFindOne(Serializable)}
 	 * and {@link #invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)} using the given {@link Converter}s.
@@ -72,6 +203,7 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 		private final RepositoryInvoker delegate;
 		private final Optional<EntityLookup<?>> lookup;
+		private final InvocationStatistics statistics = new InvocationStatistics();
 
 		public UnwrappingRepositoryInvoker(RepositoryInvoker delegate, Optional<EntityLookup<?>> lookup) {
 
@@ -86,15 +218,15 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 		@SuppressWarnings("unchecked")
 		public <T> Optional<T> invokeFindById(Object id) {
 
-			return lookup.isPresent() //
+			return statistics.findById.record(() -> lookup.isPresent() //
 					? (Optional<T>) lookup.flatMap(it -> it.lookupEntity(id)) //
-					: delegate.invokeFindById(id);
+					: delegate.invokeFindById(id));
 		}
 
 		@Override
 		public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
 				Pageable pageable, Sort sort) {
-			return delegate.invokeQueryMethod(method, parameters, pageable, sort);
+			return statistics.queryMethod.record(() -> delegate.invokeQueryMethod(method, parameters, pageable, sort));
 		}
 
 		@Override
@@ -134,7 +266,7 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 		@Override
 		public <T> T invokeSave(T object) {
-			return delegate.invokeSave(object);
+			return statistics.save.record(() -> delegate.invokeSave(object));
 		}
 	}
 }
@@ -76,4 +76,12 @@ class PathUnitTests {
 	void doesNotMatchNullReference() {
 		assertThat(new Path("/foobar").matches(null)).isFalse();
 	}
+
+	@Test
+	void doesNotMatchPartialReferences() {
+
+		assertThat(new Path("/foobar").matches("foo")).isFalse();
+		assertThat(new Path("/foobar").matches("/foobarfoo")).isFalse();
+		assertThat(new Path("/foobar").matches("//foobar")).isFalse();
+	}
 }
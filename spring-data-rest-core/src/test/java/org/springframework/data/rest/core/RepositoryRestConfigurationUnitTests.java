@@ -129,6 +129,15 @@ class RepositoryRestConfigurationUnitTests {
 				.isEqualTo(LinkRelation.of("something"));
 	}
 
+	@Test
+	void disablesCountQueriesForConfiguredDomainTypesOnly() {
+
+		configuration.disableCountQueriesFor(Profile.class);
+
+		assertThat(configuration.isCountQueryDisabledFor(Profile.class)).isTrue();
+		assertThat(configuration.isCountQueryDisabledFor(Sample.class)).isFalse();
+	}
+
 	@Relation("something")
 	static class Sample {
 
@@ -16,11 +16,15 @@
 package org.springframework.data.rest.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,15 +34,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.keyvalue.repository.support.SimpleKeyValueRepository;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.UnwrappingRepositoryInvokerFactory;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.Streamable;
 
@@ -158,10 +168,88 @@ class UriToEntityConverterUnitTests {
 		new UriToEntityConverter(entities, invokerFactory, repositories);
 	}
 
+	@Test
+	void resolvesMultipleUrisWithSingleFindAllById() throws Exception {
+
+		ConversionService conversionService = spy(new DefaultConversionService());
+
+		this.converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				new UnwrappingRepositoryInvokerFactory(invokerFactory, Collections.emptyList()), repositories,
+				conversionService);
+
+		mockRepositoryInformation(EntityRepository.class, CrudRepository.class.getMethod("findById", Object.class));
+
+		Entity first = new Entity();
+		first.id = "1";
+		Entity second = new Entity();
+		second.id = "2";
+
+		EntityRepository repository = mock(EntityRepository.class);
+		doReturn(Arrays.asList(second, first)).when(repository).findAllById(any());
+		doReturn(Optional.of(repository)).when(repositories).getRepositoryFor(Entity.class);
+
+		List<URI> uris = Arrays.asList(URI.create("/entities/1"), null, URI.create("/entities/2"),
+				URI.create("/entities/1"), URI.create("/entities/3"));
+
+		assertThat(converter.convertAll(uris, ENTITY_TYPE)).containsExactly(first, null, second, first, null);
+
+		verify(repository, times(1)).findAllById(any());
+		verify(invokerFactory, never()).getInvokerFor(any());
+		verify(conversionService, atLeastOnce()).convert("1", String.class);
+	}
+
+	@Test
+	void resolvesUrisOneByOneIfRepositoryRedeclaresFindById() throws Exception {
+
+		this.converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				new UnwrappingRepositoryInvokerFactory(invokerFactory, Collections.emptyList()), repositories,
+				new DefaultConversionService());
+
+		mockRepositoryInformation(RedeclaringEntityRepository.class,
+				RedeclaringEntityRepository.class.getMethod("findById", String.class));
+
+		Entity first = new Entity();
+		first.id = "1";
+
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Entity.class);
+		doReturn(Optional.of(first)).when(invoker).invokeFindById("1");
+		doReturn(Optional.empty()).when(invoker).invokeFindById("2");
+
+		List<URI> uris = Arrays.asList(URI.create("/entities/1"), URI.create("/entities/2"));
+
+		assertThat(converter.convertAll(uris, ENTITY_TYPE)).containsExactly(first, null);
+
+		verify(repositories, never()).getRepositoryFor(any());
+	}
+
+	private void mockRepositoryInformation(Class<?> repositoryInterface, Method findById) {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		CrudMethods crudMethods = mock(CrudMethods.class);
+
+		doReturn(repositoryInterface).when(information).getRepositoryInterface();
+		doReturn(SimpleKeyValueRepository.class).when(information).getRepositoryBaseClass();
+		doReturn(true).when(information).isBaseClassMethod(any());
+		doReturn(String.class).when(information).getIdType();
+		doReturn(crudMethods).when(information).getCrudMethods();
+		doReturn(Optional.of(findById)).when(crudMethods).getFindOneMethod();
+		doReturn(Optional.of(information)).when(repositories).getRepositoryInformationFor(Entity.class);
+		lenient().doReturn(information).when(repositories).getRequiredRepositoryInformation(Entity.class);
+	}
+
 	static class Entity {
 		@Id String id;
 	}
 
+	interface EntityRepository extends CrudRepository<Entity, String> {}
+
+	interface RedeclaringEntityRepository extends CrudRepository<Entity, String> {
+
+		@Override
+		Optional<Entity> findById(String id);
+	}
+
 	static class NonEntity {
 		String value;
 	}
@@ -149,6 +149,30 @@ class ProjectionDefinitionConfigurationUnitTests {
 		assertThat(projections.values()).contains(ChildProjection.class);
 	}
 
+	@Test
+	void considersProjectionsAddedAfterLookup() {
+
+		ProjectionDefinitionConfiguration configuration = new ProjectionDefinitionConfiguration();
+
+		assertThat(configuration.hasProjectionFor(Child.class)).isFalse();
+		assertThat(configuration.getProjectionsFor(Child.class)).isEmpty();
+
+		configuration.addProjection(ParentProjection.class);
+
+		assertThat(configuration.hasProjectionFor(Child.class)).isTrue();
+		assertThat(configuration.getProjectionType(Child.class, "summary")).isEqualTo(ParentProjection.class);
+	}
+
+	@Test
+	void exposesImmutableProjectionsForSourceType() {
+
+		ProjectionDefinitionConfiguration configuration = new ProjectionDefinitionConfiguration();
+		configuration.addProjection(ParentProjection.class);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> configuration.getProjectionsFor(Child.class).clear());
+	}
+
 	@Projection(name = "name", types = Integer.class)
 	interface SampleProjection {}
 
@@ -33,6 +33,7 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
 import org.springframework.data.rest.core.config.MetadataConfiguration;
 import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
@@ -125,6 +126,35 @@ class RepositoryResourceMappingsIntegrationTests {
 		assertThat(mappings.exportsTopLevelResourceFor("creditCards")).isFalse();
 	}
 
+	@Test
+	void looksUpExportedMetadataByPath() {
+
+		assertThat(mappings.getExportedMetadataForPath("people")).hasValueSatisfying(it -> {
+			assertThat(it.getDomainType()).isEqualTo(Person.class);
+		});
+		assertThat(mappings.getExportedMetadataForPath("/people")).isEqualTo(mappings.getExportedMetadataForPath("people"));
+		assertThat(mappings.getExportedMetadataForPath("creditCards")).isEmpty();
+		assertThat(mappings.getExportedMetadataForPath("peoples")).isEmpty();
+
+		SearchResourceMappings searchMappings = mappings.getMetadataFor(Person.class).getSearchResourceMappings();
+
+		assertThat(searchMappings.getExportedMethodMappingForPath("firstname")).isNotNull();
+		assertThat(searchMappings.getExportedMethodMappingForPath("/firstname")).isNotNull();
+		assertThat(searchMappings.getExportedMethodMappingForPath("first")).isNull();
+	}
+
+	@Test
+	void onlyLooksUpExportedMetadataOfRepositoryManagedTypesByPath() {
+
+		mappingContext.getPersistentEntity(PeopleLookalike.class);
+
+		assertThat(mappings.getMetadataFor(PeopleLookalike.class).getPath().matches("people")).isTrue();
+		assertThat(mappings.exportsTopLevelResourceFor("people")).isTrue();
+		assertThat(mappings.getExportedMetadataForPath("people")).hasValueSatisfying(it -> {
+			assertThat(it.getDomainType()).isEqualTo(Person.class);
+		});
+	}
+
 	@Test // DATAREST-107
 	void skipsSearchMethodsNotExported() {
 
@@ -172,4 +202,7 @@ class RepositoryResourceMappingsIntegrationTests {
 		assertThat(propertyMapping.getRel()).isEqualTo(LinkRelation.of("father"));
 		assertThat(propertyMapping.getPath()).isEqualTo(new Path("father-mapped"));
 	}
+
+	@RestResource(path = "people")
+	static class PeopleLookalike {}
 }
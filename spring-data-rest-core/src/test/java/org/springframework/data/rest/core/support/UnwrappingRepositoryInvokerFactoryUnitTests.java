@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.core.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -67,4 +68,31 @@ class UnwrappingRepositoryInvokerFactoryUnitTests {
 		verify(lookup, times(1)).lookupEntity(eq(1L));
 		verify(invoker, never()).invokeFindById(eq(1L)); // DATAREST-1261
 	}
+
+	@Test
+	void returnsSameInvokerForRepeatedLookups() {
+
+		assertThat(factory.getInvokerFor(Object.class)).isSameAs(factory.getInvokerFor(Object.class));
+
+		verify(delegate, times(1)).getInvokerFor(Object.class);
+	}
+
+	@Test
+	void recordsInvocationStatistics() {
+
+		UnwrappingRepositoryInvokerFactory factory = (UnwrappingRepositoryInvokerFactory) this.factory;
+
+		assertThat(factory.getInvocationStatistics(Object.class)).isEmpty();
+
+		RepositoryInvoker invoker = factory.getInvokerFor(Object.class);
+		invoker.invokeSave(REFERENCE);
+		invoker.invokeSave(REFERENCE);
+		invoker.invokeFindById(1L);
+
+		assertThat(factory.getInvocationStatistics(Object.class)).hasValueSatisfying(it -> {
+			assertThat(it.getSave().getCount()).isEqualTo(2);
+			assertThat(it.getFindById().getCount()).isEqualTo(1);
+			assertThat(it.getQueryMethod().getCount()).isZero();
+		});
+	}
 }
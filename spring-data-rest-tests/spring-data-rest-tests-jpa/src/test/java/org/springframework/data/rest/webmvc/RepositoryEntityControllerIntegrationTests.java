@@ -29,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.support.RepositoryInvoker;
@@ -38,13 +39,17 @@ import org.springframework.data.rest.webmvc.RepositoryEntityControllerIntegratio
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
 import org.springframework.data.rest.webmvc.jpa.Address;
 import org.springframework.data.rest.webmvc.jpa.AddressRepository;
+import org.springframework.data.rest.webmvc.jpa.Author;
+import org.springframework.data.rest.webmvc.jpa.AuthorRepository;
 import org.springframework.data.rest.webmvc.jpa.CreditCard;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.Order;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -66,6 +71,7 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 
 	@Autowired RepositoryEntityController controller;
 	@Autowired AddressRepository repository;
+	@Autowired AuthorRepository authors;
 	@Autowired RepositoryRestConfiguration configuration;
 	@Autowired PersistentEntityResourceAssembler assembler;
 	@Autowired PersistentEntities entities;
@@ -283,5 +289,28 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 						MediaType.APPLICATION_JSON_VALUE));
 	}
 
+	@Test
+	void rendersUnpagedCollectionResourceInStreamingFashionIfConfigured() throws Exception {
+
+		authors.save(new Author("Douglas Adams"));
+
+		configuration.setStreamUnpagedCollectionResources(true);
+
+		try {
+
+			CollectionModel<?> model = controller.getCollectionResource(getResourceInformation(Author.class),
+					new DefaultedPageable(Pageable.unpaged(), false), Sort.unsorted(), assembler);
+
+			assertThat(model).isInstanceOfSatisfying(StreamingCollectionModel.class, it -> {
+				assertThat(it.getContent()).isEmpty();
+				assertThat(it.getResources()).toIterable().hasSize(1);
+				assertThat(it.getLink(IanaLinkRelations.SELF)).isPresent();
+			});
+
+		} finally {
+			configuration.setStreamUnpagedCollectionResources(false);
+		}
+	}
+
 	interface AddressProjection {}
 }
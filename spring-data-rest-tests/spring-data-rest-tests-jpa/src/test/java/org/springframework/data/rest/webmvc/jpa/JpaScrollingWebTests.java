@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Web integration tests for keyset-based scrolling of collection and search resources as well as for collection
+ * resources rendered without a count query.
+ */
+@ContextConfiguration
+class JpaScrollingWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaInfrastructureConfig.class })
+	@EnableJpaRepositories(considerNestedRepositories = true)
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer
+					.withConfig(config -> config.enableKeysetPaginationFor(Track.class, Album.class) //
+							.disableCountQueriesFor(Concert.class));
+		}
+	}
+
+	@Entity
+	public static class Track {
+
+		@Id @GeneratedValue Long id;
+		public String name;
+
+		protected Track() {}
+
+		Track(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity
+	public static class Album {
+
+		@Id @GeneratedValue Long id;
+		public String title;
+
+		protected Album() {}
+
+		Album(String title) {
+			this.title = title;
+		}
+	}
+
+	@Entity
+	public static class Concert {
+
+		@Id @GeneratedValue Long id;
+		public String city;
+
+		protected Concert() {}
+
+		Concert(String city) {
+			this.city = city;
+		}
+	}
+
+	public interface TrackRepository extends CrudRepository<Track, Long> {
+
+		Window<Track> findAllBy(@Param("position") ScrollPosition position, Pageable pageable);
+
+		Window<Track> findByNameStartingWith(@Param("prefix") String prefix,
+				@Param("position") ScrollPosition position, Pageable pageable);
+	}
+
+	public interface AlbumRepository extends CrudRepository<Album, Long>, PagingAndSortingRepository<Album, Long> {}
+
+	public interface ConcertRepository extends CrudRepository<Concert, Long>, PagingAndSortingRepository<Concert, Long> {
+		Slice<Concert> findAllBy(Pageable pageable);
+	}
+
+	@Autowired TrackRepository tracks;
+	@Autowired AlbumRepository albums;
+	@Autowired ConcertRepository concerts;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		tracks.deleteAll();
+		tracks.saveAll(List.of(new Track("Ants Marching"), new Track("Bartender"), new Track("Crash")));
+
+		albums.deleteAll();
+		albums.saveAll(List.of(new Album("Before These Crowded Streets"), new Album("Crash")));
+
+		concerts.deleteAll();
+		concerts.saveAll(List.of(new Concert("Berlin"), new Concert("Dresden"), new Concert("Hamburg")));
+
+		super.setUp();
+	}
+
+	@Test
+	void rendersFirstWindowWithNextLinkAndWithoutPageMetadata() throws Exception {
+
+		mvc.perform(get("/tracks?size=2&sort=name")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.tracks[0].name").value("Ants Marching")) //
+				.andExpect(jsonPath("$._embedded.tracks[1].name").value("Bartender")) //
+				.andExpect(jsonPath("$._embedded.tracks[2]").doesNotExist()) //
+				.andExpect(jsonPath("$._links.next.href").exists()) //
+				.andExpect(jsonPath("$._links.prev").doesNotExist()) //
+				.andExpect(jsonPath("$.page").doesNotExist());
+	}
+
+	@Test
+	void roundTripsThroughNextAndPrevLinks() throws Exception {
+
+		MockHttpServletResponse first = mvc.perform(get("/tracks?size=2&sort=name")).andReturn().getResponse();
+		Link next = client.assertHasLinkWithRel(IanaLinkRelations.NEXT, first);
+
+		MockHttpServletResponse second = client.follow(next) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.tracks[0].name").value("Crash")) //
+				.andExpect(jsonPath("$._embedded.tracks[1]").doesNotExist()) //
+				.andExpect(jsonPath("$._links.next").doesNotExist()) //
+				.andReturn().getResponse();
+
+		Link prev = client.assertHasLinkWithRel(IanaLinkRelations.PREV, second);
+
+		assertThat(prev.getHref()).contains("size=2", "sort=name");
+
+		client.follow(prev) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.tracks[0].name").value("Ants Marching")) //
+				.andExpect(jsonPath("$._embedded.tracks[1].name").value("Bartender"));
+	}
+
+	@Test
+	void rejectsMalformedCursorWithBadRequest() throws Exception {
+
+		mvc.perform(get("/tracks").param("cursor", "%%%")) //
+				.andExpect(status().isBadRequest());
+
+		mvc.perform(get("/tracks/search/findByNameStartingWith").param("prefix", "A").param("cursor", "%%%")) //
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void fallsBackToPagingIfRepositoryDoesNotDeclareScrollMethod() throws Exception {
+
+		mvc.perform(get("/albums?size=1")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.albums[0]").exists()) //
+				.andExpect(jsonPath("$.page.totalElements").value(2));
+	}
+
+	@Test
+	void scrollsSearchMethodDeclaringScrollPosition() throws Exception {
+
+		tracks.save(new Track("Crush"));
+
+		MockHttpServletResponse first = mvc.perform(get("/tracks/search/findByNameStartingWith") //
+				.param("prefix", "Cr") //
+				.param("size", "1") //
+				.param("sort", "name")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.tracks[0].name").value("Crash")) //
+				.andExpect(jsonPath("$._embedded.tracks[1]").doesNotExist()) //
+				.andExpect(jsonPath("$.page").doesNotExist()) //
+				.andReturn().getResponse();
+
+		Link next = client.assertHasLinkWithRel(IanaLinkRelations.NEXT, first);
+
+		assertThat(next.getHref()).contains("prefix=Cr");
+
+		client.follow(next) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.tracks[0].name").value("Crush"));
+	}
+
+	@Test
+	void rendersSliceWithoutPageMetadataIfCountQueryIsDisabled() throws Exception {
+
+		mvc.perform(get("/concerts?page=1&size=1&sort=city")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.concerts[0].city").value("Dresden")) //
+				.andExpect(jsonPath("$._embedded.concerts[1]").doesNotExist()) //
+				.andExpect(jsonPath("$._links.prev.href").value(containsString("page=0"))) //
+				.andExpect(jsonPath("$._links.next.href").value(containsString("page=2"))) //
+				.andExpect(jsonPath("$.page").doesNotExist());
+
+		mvc.perform(get("/concerts?page=2&size=1&sort=city")) //
+				.andExpect(jsonPath("$._embedded.concerts[0].city").value("Hamburg")) //
+				.andExpect(jsonPath("$._links.next").doesNotExist()) //
+				.andExpect(jsonPath("$.page").doesNotExist());
+	}
+
+	@Test
+	void doesNotLetClientsSkipTheCountQuery() throws Exception {
+
+		mvc.perform(get("/albums?size=1&count=false")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.page.totalElements").value(2));
+	}
+}
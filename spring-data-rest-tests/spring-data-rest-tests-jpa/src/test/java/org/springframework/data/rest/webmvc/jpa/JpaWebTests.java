@@ -38,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.tests.CommonWebTests;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
@@ -84,6 +85,7 @@ public class JpaWebTests extends CommonWebTests {
 	@Autowired TestDataPopulator loader;
 	@Autowired ResourceMappings mappings;
 	@Autowired LinkRelationProvider relProvider;
+	@Autowired RepositoryRestConfiguration configuration;
 
 	ObjectMapper mapper = new ObjectMapper();
 
@@ -753,6 +755,27 @@ public class JpaWebTests extends CommonWebTests {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void rendersStreamedCollectionResourceLikeRegularOne() throws Exception {
+
+		Link booksLink = client.discoverUnique(LinkRelation.of("books"));
+		String expected = renderCollectionResource(booksLink, false);
+
+		assertThat(JsonPath.<JSONArray> read(expected, "$._embedded.books")).hasSize(2);
+		assertThat(JsonPath.<String> read(expected, "$._links.self.href")).isNotNull();
+		assertThat(renderCollectionResource(booksLink, true)).isEqualTo(expected);
+	}
+
+	@Test
+	void rendersEmptyStreamedCollectionResourceLikeRegularOne() throws Exception {
+
+		Link categoriesLink = client.discoverUnique(LinkRelation.of("categories"));
+		String expected = renderCollectionResource(categoriesLink, false);
+
+		assertThat(JsonPath.<JSONArray> read(expected, "$._embedded.categories")).isEmpty();
+		assertThat(renderCollectionResource(categoriesLink, true)).isEqualTo(expected);
+	}
+
 	private List<Link> preparePersonResources(Person primary, Person... persons) throws Exception {
 
 		Link peopleLink = client.discoverUnique(LinkRelation.of("people"));
@@ -853,6 +876,21 @@ public class JpaWebTests extends CommonWebTests {
 		return Link.of(builder.queryParam("projection", "open").build().toUriString());
 	}
 
+	private String renderCollectionResource(Link link, boolean stream) throws Exception {
+
+		configuration.setStreamUnpagedCollectionResources(stream);
+
+		try {
+
+			return mvc.perform(get(link.expand().getHref()).accept(MediaTypes.HAL_JSON)) //
+					.andExpect(status().isOk()) //
+					.andReturn().getResponse().getContentAsString();
+
+		} finally {
+			configuration.setStreamUnpagedCollectionResources(false);
+		}
+	}
+
 	private static String toUriList(Link... links) {
 
 		List<String> uris = new ArrayList<>(links.length);
@@ -59,6 +59,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class JsonPatchHandlerUnitTests {
 
 	JsonPatchHandler handler;
+	BindContextFactory factory;
+	DomainObjectReader reader;
 	ObjectMapper mapper = new ObjectMapper();
 	User user;
 
@@ -76,9 +78,9 @@ class JsonPatchHandlerUnitTests {
 
 		PersistentEntities entities = new PersistentEntities(Arrays.asList(context));
 		Associations associations = new Associations(mappings, mock(RepositoryRestConfiguration.class));
-		BindContextFactory factory = new PersistentEntitiesBindContextFactory(entities);
-
-		this.handler = new JsonPatchHandler(factory, new DomainObjectReader(entities, associations));
+		this.factory = new PersistentEntitiesBindContextFactory(entities);
+		this.reader = new DomainObjectReader(entities, associations);
+		this.handler = new JsonPatchHandler(factory, reader);
 
 		Address address = new Address();
 		address.street = "Foo";
@@ -175,6 +177,43 @@ class JsonPatchHandlerUnitTests {
 		assertThat(result.lastname).isEqualTo("hello");
 	}
 
+	@Test
+	void appliesPatchIncrementally() throws Exception {
+
+		String input = "[{ \"op\": \"replace\", \"path\": \"/address/zipCode\", \"value\": \"ZIP\" },"
+				+ "{ \"op\": \"remove\", \"path\": \"/lastname\" }]";
+
+		User result = incrementalHandler().applyPatch(asStream(input), user, mapper);
+
+		assertThat(result.lastname).isNull();
+		assertThat(result.address.zipCode).isEqualTo("ZIP");
+	}
+
+	@Test
+	void appliesMergePatchIncrementally() throws Exception {
+
+		String input = "{ \"address\" : { \"zipCode\" : \"ZIP\"}, \"lastname\" : null }";
+
+		User result = incrementalHandler().applyMergePatch(asStream(input), user, mapper);
+
+		assertThat(result.firstname).isEqualTo("Oliver");
+		assertThat(result.lastname).isNull();
+		assertThat(result.address.street).isEqualTo("Foo");
+		assertThat(result.address.zipCode).isEqualTo("ZIP");
+	}
+
+	@Test
+	void hintsToMediaTypeIfBodyCantBeReadIncrementally() throws Exception {
+
+		assertThatExceptionOfType(HttpMessageNotReadableException.class)
+				.isThrownBy(() -> incrementalHandler().applyPatch(asStream("{ \"foo\" : \"bar\" }"), new User(), mapper))
+				.withMessageContaining(RestMediaTypes.JSON_PATCH_JSON.toString());
+	}
+
+	private JsonPatchHandler incrementalHandler() {
+		return new JsonPatchHandler(factory, reader, true);
+	}
+
 	@JsonIgnoreProperties("password")
 	@Data
 	static class WithIgnoredProperties {
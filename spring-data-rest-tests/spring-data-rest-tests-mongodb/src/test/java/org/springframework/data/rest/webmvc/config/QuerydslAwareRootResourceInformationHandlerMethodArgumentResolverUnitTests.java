@@ -20,12 +20,14 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -46,6 +48,7 @@ import org.springframework.data.rest.tests.mongodb.Receipt;
 import org.springframework.data.rest.tests.mongodb.ReceiptRepository;
 import org.springframework.data.rest.tests.mongodb.User;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MultiValueMap;
 
 import com.querydsl.core.types.Predicate;
 
@@ -116,6 +119,38 @@ class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolverUnitTests
 		verify(repository, times(1)).customize(Mockito.any(QuerydslBindings.class), Mockito.any(QUser.class));
 	}
 
+	@Test
+	void createsBindingsOnlyOncePerDomainType() {
+
+		QuerydslCustomizingUserRepository repository = mock(QuerydslCustomizingUserRepository.class);
+		when(repositories.getRepositoryFor(User.class)).thenReturn(Optional.of(repository));
+
+		resolver.postProcess(parameter, invoker, User.class, NO_PARAMETERS);
+		resolver.postProcess(parameter, invoker, User.class, NO_PARAMETERS);
+
+		verify(repository, times(1)).customize(Mockito.any(QuerydslBindings.class), Mockito.any(QUser.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void onlyHandsBindableParametersToPredicateBuilder() {
+
+		Object repository = mock(QuerydslUserRepository.class);
+		when(repositories.getRepositoryFor(User.class)).thenReturn(Optional.of(repository));
+
+		Map<String, String[]> parameters = new LinkedHashMap<>();
+		parameters.put("firstname", new String[] { "Dave" });
+		parameters.put("page", new String[] { "1" });
+		parameters.put("sort", new String[] { "lastname" });
+
+		resolver.postProcess(parameter, invoker, User.class, parameters);
+
+		ArgumentCaptor<MultiValueMap<String, String>> captor = ArgumentCaptor.forClass(MultiValueMap.class);
+		verify(builder).getPredicate(any(), captor.capture(), any());
+
+		assertThat(captor.getValue()).containsOnlyKeys("firstname");
+	}
+
 	interface QuerydslUserRepository extends QuerydslPredicateExecutor<User> {}
 
 	interface QuerydslCustomizingUserRepository
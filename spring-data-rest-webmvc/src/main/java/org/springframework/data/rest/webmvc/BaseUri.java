@@ -27,6 +27,8 @@ import org.springframework.data.rest.core.Path;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -43,6 +45,7 @@ public class BaseUri {
 	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
 
 	private final URI baseUri;
+	private final String requestAttributeName;
 
 	/**
 	 * Creates a new {@link BaseUri} with the given URI as base.
@@ -55,6 +58,7 @@ public class BaseUri {
 
 		String uriString = uri.toString();
 		this.baseUri = URI.create(trimTrailingCharacter(trimTrailingCharacter(uriString, '/'), '/'));
+		this.requestAttributeName = BaseUri.class.getName() + ".URI_COMPONENTS:" + this.baseUri;
 	}
 
 	/**
@@ -148,7 +152,7 @@ public class BaseUri {
 
 	/**
 	 * Returns a new {@link UriComponentsBuilder} for the base URI. If the base URI is not absolute, it'll lokup the URI
-	 * for the current servlet mapping and extend it accordingly.
+	 * for the current servlet mapping and extend it accordingly. The latter is only resolved once per request.
 	 *
 	 * @return
 	 */
@@ -156,7 +160,7 @@ public class BaseUri {
 
 		return baseUri.isAbsolute() //
 				? UriComponentsBuilder.fromUri(baseUri) //
-				: ServletUriComponentsBuilder.fromCurrentServletMapping().path(baseUri.toString());
+				: UriComponentsBuilder.newInstance().uriComponents(getServletMappingUriComponents());
 	}
 
 	/**
@@ -171,4 +175,32 @@ public class BaseUri {
 
 		return getUriComponentsBuilder().path(path.toString()).build();
 	}
+
+	/**
+	 * Returns the {@link UriComponents} of the base URI appended to the current servlet mapping. As resolving the latter
+	 * requires inspecting the current request including potentially forwarded headers, the result is cached for the
+	 * current request.
+	 *
+	 * @return
+	 */
+	private UriComponents getServletMappingUriComponents() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		Object cached = attributes == null ? null
+				: attributes.getAttribute(requestAttributeName, RequestAttributes.SCOPE_REQUEST);
+
+		if (cached instanceof UriComponents) {
+			return (UriComponents) cached;
+		}
+
+		UriComponents components = ServletUriComponentsBuilder.fromCurrentServletMapping() //
+				.path(baseUri.toString()) //
+				.build();
+
+		if (attributes != null) {
+			attributes.setAttribute(requestAttributeName, components, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return components;
+	}
 }
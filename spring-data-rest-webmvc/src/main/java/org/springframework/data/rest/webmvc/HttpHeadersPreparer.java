@@ -25,6 +25,7 @@ import org.springframework.data.auditing.AuditableBeanWrapper;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.convert.Jsr310Converters;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.support.EntityVersion;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.http.HttpHeaders;
 import org.springframework.util.Assert;
@@ -89,6 +90,25 @@ public class HttpHeadersPreparer {
 		return headers;
 	}
 
+	/**
+	 * Returns the default headers to be returned for an entity with the given {@link EntityVersion}. Will set
+	 * {@link ETag} and {@code Last-Modified} headers if applicable.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 */
+	public HttpHeaders prepareHeaders(EntityVersion version) {
+
+		Assert.notNull(version, "EntityVersion must not be null");
+
+		HttpHeaders headers = ETag.from(version.getVersion().map(Object::toString)).addTo(new HttpHeaders());
+
+		version.getLastModified().ifPresent(it -> headers.setLastModified(it.toEpochMilli()));
+
+		return headers;
+	}
+
 	/**
 	 * Returns whether the given object is still valid in the context of the given {@link HttpHeaders}' requirements.
 	 *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Exception being thrown in case a client hands in a cursor that cannot be translated into a
+ * {@link org.springframework.data.domain.ScrollPosition}. Rendered as {@code 400 Bad Request} by
+ * {@link RepositoryRestExceptionHandler}.
+ *
+ * @since 4.1
+ * @see ScrollPositionCursors#fromCursor(String)
+ */
+class InvalidCursorException extends IllegalArgumentException {
+
+	private static final long serialVersionUID = -3385185410950781187L;
+
+	/**
+	 * Creates a new {@link InvalidCursorException} for the given cursor and cause.
+	 *
+	 * @param cursor the invalid cursor, must not be {@literal null}.
+	 * @param cause can be {@literal null}.
+	 */
+	InvalidCursorException(String cursor, @Nullable Throwable cause) {
+		super(String.format("Invalid cursor %s", cursor), cause);
+	}
+}
@@ -18,17 +18,29 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.http.HttpMethod.*;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
@@ -43,15 +55,19 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.core.support.EntityVersionProbe;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -61,11 +77,20 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -85,11 +110,18 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 	private static final String ACCEPT_HEADER = "Accept";
 	private static final String LINK_HEADER = "Link";
+	private static final String FIND_ALL_BY = "findAllBy";
 
+	private final Repositories repositories;
 	private final RepositoryEntityLinks entityLinks;
 	private final RepositoryRestConfiguration config;
 	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
+	private final PluginRegistry<EntityVersionProbe<?>, Class<?>> versionProbes;
+	private final RepresentationCache representationCache;
+	private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
+	private final Map<Class<?>, Optional<Method>> scrollMethods = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<Method>> sliceMethods = new ConcurrentHashMap<>();
 
 	private ApplicationEventPublisher publisher;
 
@@ -104,17 +136,51 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @param assembler must not be {@literal null}.
 	 * @param auditableBeanWrapperFactory must not be {@literal null}.
 	 */
-	@Autowired
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
 			HttpHeadersPreparer headersPreparer) {
+		this(repositories, config, entityLinks, assembler, headersPreparer, PluginRegistry.empty(),
+				new RepresentationCache(new PersistentEntities(Collections.emptyList()), 0),
+				new HateoasPageableHandlerMethodArgumentResolver());
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
+	 * {@link RepositoryRestConfiguration}, {@link RepositoryEntityLinks}, {@link PagedResourcesAssembler},
+	 * {@link HttpHeadersPreparer}, {@link EntityVersionProbe}s used to answer conditional requests for item resources
+	 * without loading the entity, the {@link RepresentationCache} for item resources and the
+	 * {@link HateoasPageableHandlerMethodArgumentResolver} to render the links between slices of collection resources.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param versionProbes must not be {@literal null}.
+	 * @param representationCache must not be {@literal null}.
+	 * @param pageableResolver must not be {@literal null}.
+	 * @since 4.1
+	 */
+	@Autowired
+	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
+			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
+			HttpHeadersPreparer headersPreparer, PluginRegistry<EntityVersionProbe<?>, Class<?>> versionProbes,
+			RepresentationCache representationCache, HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
 
 		super(assembler);
 
+		Assert.notNull(versionProbes, "EntityVersionProbes must not be null");
+		Assert.notNull(representationCache, "RepresentationCache must not be null");
+		Assert.notNull(pageableResolver, "HateoasPageableHandlerMethodArgumentResolver must not be null");
+
+		this.repositories = repositories;
 		this.entityLinks = entityLinks;
 		this.config = config;
 		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.versionProbes = versionProbes;
+		this.representationCache = representationCache;
+		this.pageableResolver = pageableResolver;
 	}
 
 	@Override
@@ -180,10 +246,248 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @throws ResourceNotFoundException
 	 * @throws HttpRequestMethodNotSupportedException
 	 */
+	public CollectionModel<?> getCollectionResource(RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		return getCollectionResource(resourceInformation, pageable, sort, assembler, new HttpHeaders(),
+				new LinkedMultiValueMap<>()).getBody();
+	}
+
+	/**
+	 * <code>GET /{repository}</code> - Returns the collection resource (paged or unpaged). Paged collection resources
+	 * carry a weak {@link ETag} calculated from the identifiers and versions of the page's content so that
+	 * {@code If-None-Match} can be answered with {@code 304 Not Modified} without rendering the resource.
+	 *
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param assembler
+	 * @param headers
+	 * @param parameters
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 4.1
+	 */
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
-	public CollectionModel<?> getCollectionResource(@QuerydslPredicate RootResourceInformation resourceInformation,
-			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
+	public ResponseEntity<CollectionModel<?>> getCollectionResource(
+			@QuerydslPredicate RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort,
+			PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers,
+			@RequestParam MultiValueMap<String, String> parameters)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		Optional<CollectionModel<?>> scrolled = scroll(resourceInformation, pageable, sort, parameters, assembler);
+
+		if (scrolled.isPresent()) {
+			return ResponseEntity.ok(scrolled.get());
+		}
+
+		Optional<CollectionModel<?>> sliced = slice(resourceInformation, pageable, assembler);
+
+		if (sliced.isPresent()) {
+			return ResponseEntity.ok(sliced.get());
+		}
+
+		Iterable<?> results = findAll(resourceInformation, pageable, sort);
+
+		if (results instanceof Page) {
+
+			Optional<ResponseEntity<CollectionModel<?>>> response = resourceStatus
+					.getStatusAndHeaders(headers, (Page<?>) results, resourceInformation.getPersistentEntity())
+					.map(it -> it.toCollectionResponseEntity(
+							() -> toCollectionResource(resourceInformation, pageable, results, assembler, false)));
+
+			if (response.isPresent()) {
+				return response.get();
+			}
+		}
+
+		return ResponseEntity.ok(toCollectionResource(resourceInformation, pageable, results, assembler,
+				config.isStreamUnpagedCollectionResources()));
+	}
+
+	private CollectionModel<?> getCollectionResource(RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, boolean streamUnpaged)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		Iterable<?> results = findAll(resourceInformation, pageable, sort);
+
+		return toCollectionResource(resourceInformation, pageable, results, assembler, streamUnpaged);
+	}
+
+	/**
+	 * Scrolls through the collection resource using keyset pagination if enabled for the domain type and the repository
+	 * declares a {@code findAllBy} query method taking a {@link ScrollPosition} and returning a {@link Window}. The
+	 * method is invoked through the {@link RepositoryInvoker} so that all constraints applied by the repository are
+	 * honored. Requests filtered by a Querydsl predicate are not scrolled as the predicate cannot be applied to the
+	 * query method.
+	 *
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return the {@link CollectionModel} for the current {@link Window} including links to the next and previous ones or
+	 *         {@link Optional#empty()} in case the collection resource is not to be scrolled.
+	 * @throws InvalidCursorException in case the request carries an invalid cursor.
+	 */
+	private Optional<CollectionModel<?>> scroll(RootResourceInformation resourceInformation, DefaultedPageable pageable,
+			Sort sort, MultiValueMap<String, String> parameters, PersistentEntityResourceAssembler assembler)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		Class<?> domainType = resourceInformation.getDomainType();
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+
+		if (!config.isKeysetPaginationEnabledFor(domainType) || invoker instanceof QuerydslRepositoryInvokerAdapter) {
+			return Optional.empty();
+		}
+
+		Optional<Method> method = scrollMethods.computeIfAbsent(domainType,
+				it -> getFindAllByMethod(it, Window.class, ScrollPosition.class));
+
+		if (!method.isPresent()) {
+			return Optional.empty();
+		}
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		Pageable source = pageable.getPageable();
+		int size = source != null && source.isPaged() ? source.getPageSize() : config.getDefaultPageSize();
+		Sort order = source != null && source.getSort().isSorted() ? source.getSort() : sort;
+		Sort sortToApply = order == null ? Sort.unsorted() : order;
+
+		String cursor = parameters.getFirst(config.getCursorParamName());
+		ScrollPosition position = StringUtils.hasText(cursor) //
+				? ScrollPositionCursors.fromCursor(cursor) //
+				: ScrollPosition.keyset();
+
+		MultiValueMap<String, Object> arguments = new LinkedMultiValueMap<>();
+		arguments.set(ScrollPositionCursors.getScrollPositionParameterName(method.get()).orElseThrow(), position);
+
+		Window<?> window = invoker
+				.invokeQueryMethod(method.get(), arguments, PageRequest.of(0, size, sortToApply), sortToApply) //
+				.map(Window.class::cast) //
+				.orElseThrow(ResourceNotFoundException::new);
+
+		Links links = ScrollPositionCursors.getLinks(window, position, config.getCursorParamName(),
+				config.getPageParamName());
+
+		return Optional.of(toCollectionModel(window, assembler, domainType, Optional.of(getDefaultSelfLink())) //
+				.add(getCollectionResourceLinks(resourceInformation, pageable)) //
+				.add(links));
+	}
+
+	/**
+	 * Returns the query method named {@code findAllBy} declared on the repository managing the given domain type that
+	 * returns the given type and takes a parameter of the given type as well as an optional {@link Pageable} or
+	 * {@link Sort} but no other parameters.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param returnType must not be {@literal null}.
+	 * @param parameterType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<Method> getFindAllByMethod(Class<?> domainType, Class<?> returnType, Class<?> parameterType) {
+
+		return repositories.getRepositoryInformationFor(domainType) //
+				.flatMap(it -> it.getQueryMethods().stream() //
+						.filter(method -> FIND_ALL_BY.equals(method.getName())) //
+						.filter(method -> returnType.equals(method.getReturnType())) //
+						.filter(method -> hasOnlyParameters(method, parameterType)) //
+						.filter(method -> !ScrollPosition.class.equals(parameterType)
+								|| ScrollPositionCursors.getScrollPositionParameterName(method).isPresent()) //
+						.findFirst());
+	}
+
+	private static boolean hasOnlyParameters(Method method, Class<?> parameterType) {
+
+		List<Class<?>> types = Arrays.asList(method.getParameterTypes());
+
+		return types.contains(parameterType) //
+				&& types.stream().distinct().count() == types.size() //
+				&& types.stream()
+						.allMatch(it -> it.equals(parameterType) || it.equals(Pageable.class) || it.equals(Sort.class));
+	}
+
+	/**
+	 * Reads a {@link Slice} of the paged collection resource without issuing a count query if that is disabled for the
+	 * domain type and the repository declares a {@code findAllBy} query method taking a {@link Pageable} and returning a
+	 * {@link Slice}. The method is invoked through the {@link RepositoryInvoker} so that all constraints applied by the
+	 * repository are honored. Requests filtered by a Querydsl predicate are rendered as {@link Page} as the predicate
+	 * cannot be applied to the query method. The resulting representation only exposes {@code next} and {@code prev}
+	 * links but no page metadata.
+	 *
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return the {@link CollectionModel} for the current slice or {@link Optional#empty()} in case the collection
+	 *         resource is to be rendered as {@link Page}.
+	 */
+	private Optional<CollectionModel<?>> slice(RootResourceInformation resourceInformation, DefaultedPageable pageable,
+			PersistentEntityResourceAssembler assembler)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		Class<?> domainType = resourceInformation.getDomainType();
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+
+		if (!config.isCountQueryDisabledFor(domainType) || invoker instanceof QuerydslRepositoryInvokerAdapter) {
+			return Optional.empty();
+		}
+
+		Pageable source = pageable.getPageable();
+
+		if (source == null || source.isUnpaged()) {
+			return Optional.empty();
+		}
+
+		Optional<Method> method = sliceMethods.computeIfAbsent(domainType,
+				it -> getFindAllByMethod(it, Slice.class, Pageable.class));
+
+		if (!method.isPresent()) {
+			return Optional.empty();
+		}
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		Slice<?> slice = invoker.invokeQueryMethod(method.get(), new LinkedMultiValueMap<>(), source, source.getSort()) //
+				.map(Slice.class::cast) //
+				.orElseThrow(ResourceNotFoundException::new);
+
+		Links links = Links.NONE;
+
+		if (slice.hasPrevious()) {
+			links = links.and(getSliceLink(slice.previousPageable(), IanaLinkRelations.PREV));
+		}
+
+		if (slice.hasNext()) {
+			links = links.and(getSliceLink(slice.nextPageable(), IanaLinkRelations.NEXT));
+		}
+
+		return Optional.of(toCollectionModel(slice, assembler, domainType, Optional.of(getDefaultSelfLink())) //
+				.add(getCollectionResourceLinks(resourceInformation, pageable)) //
+				.add(links));
+	}
+
+	/**
+	 * Creates a {@link Link} to the slice described by the given {@link Pageable} using the configured
+	 * {@link HateoasPageableHandlerMethodArgumentResolver} so that the links honor the parameter names and one-indexed
+	 * page numbers just like the ones rendered by {@link PagedResourcesAssembler}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @param relation must not be {@literal null}.
+	 * @return
+	 */
+	private Link getSliceLink(Pageable pageable, LinkRelation relation) {
+
+		UriComponentsBuilder builder = ServletUriComponentsBuilder.fromCurrentRequest();
+		pageableResolver.enhance(builder, null, pageable);
+
+		return Link.of(builder.build().toUriString(), relation);
+	}
+
+	private Iterable<?> findAll(RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
@@ -194,11 +498,23 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results = pageable.getPageable() != null //
+		return pageable.getPageable() != null //
 				? invoker.invokeFindAll(pageable.getPageable()) //
 				: invoker.invokeFindAll(sort);
+	}
+
+	private CollectionModel<?> toCollectionResource(RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Iterable<?> results, PersistentEntityResourceAssembler assembler,
+			boolean streamUnpaged) {
 
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+
+		if (streamUnpaged && !(results instanceof Page)) {
+			return new StreamingCollectionModel(results, assembler, metadata.getRel()) //
+					.add(getDefaultSelfLink()) //
+					.add(getCollectionResourceLinks(resourceInformation, pageable));
+		}
+
 		Optional<Link> baseLink = Optional.of(getDefaultSelfLink());
 
 		return toCollectionModel(results, assembler, metadata.getDomainType(), baseLink)
@@ -226,7 +542,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
-		CollectionModel<?> resources = getCollectionResource(resourceinformation, pageable, sort, assembler);
+		CollectionModel<?> resources = getCollectionResource(resourceinformation, pageable, sort, assembler, false);
 
 		Links links = resources.getContent().stream() //
 				.map(PersistentEntityResource.class::cast) //
@@ -320,12 +636,19 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			@BackendId Serializable id, final PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers)
 			throws HttpRequestMethodNotSupportedException {
 
+		Optional<ResponseEntity<EntityModel<?>>> notModified = probeNotModified(resourceInformation, id, headers);
+
+		if (notModified.isPresent()) {
+			return notModified.get();
+		}
+
 		return getItemResource(resourceInformation, id).map(it -> {
 
 			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
 
 			return resourceStatus.getStatusAndHeaders(headers, it, entity).toResponseEntity(//
-					() -> assembler.toFullResource(it));
+					() -> representationCache.prepare(entity, it, headers) //
+							.orElseGet(() -> assembler.toFullResource(it)));
 
 		}).orElseThrow(() -> new ResourceNotFoundException());
 	}
@@ -493,6 +816,37 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		headers.setLocation(UriTemplate.of(selfLink).expand());
 	}
 
+	/**
+	 * Evaluates the conditional request headers against the version information obtained through the
+	 * {@link EntityVersionProbe} registered for the domain type, if any, so that a {@code 304 Not Modified} can be
+	 * returned without loading the entity.
+	 *
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param headers can be {@literal null}.
+	 * @return the {@code 304 Not Modified} response or {@link Optional#empty()} if the entity has to be loaded to
+	 *         answer the request.
+	 */
+	private Optional<ResponseEntity<EntityModel<?>>> probeNotModified(RootResourceInformation resourceInformation,
+			Serializable id, @Nullable HttpHeaders headers) throws HttpRequestMethodNotSupportedException {
+
+		if (headers == null || headers.getIfNoneMatch().isEmpty() && headers.getIfModifiedSince() == -1) {
+			return Optional.empty();
+		}
+
+		Optional<EntityVersionProbe<?>> probe = versionProbes.getPluginFor(resourceInformation.getDomainType());
+
+		if (!probe.isPresent()) {
+			return Optional.empty();
+		}
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
+
+		return probe.get().probe(id) //
+				.flatMap(it -> resourceStatus.getNotModifiedStatusAndHeaders(headers, it)) //
+				.map(it -> it.toResponseEntity(() -> null));
+	}
+
 	/**
 	 * Returns the object backing the item resource for the given {@link RootResourceInformation} and id.
 	 *
@@ -85,6 +85,18 @@ public class RepositoryRestExceptionHandler {
 		return badRequest(new HttpHeaders(), o_O);
 	}
 
+	/**
+	 * Handles {@link InvalidCursorException} by returning {@code 400 Bad Request}.
+	 *
+	 * @param o_O the exception to handle.
+	 * @return
+	 * @since 4.1
+	 */
+	@ExceptionHandler
+	ResponseEntity<ExceptionMessage> handleInvalidCursor(InvalidCursorException o_O) {
+		return badRequest(new HttpHeaders(), o_O);
+	}
+
 	/**
 	 * Handle failures commonly thrown from code tries to read incoming data and convert or cast it to the right type by
 	 * returning {@code 500 Internal Server Error} and the thrown exception marshalled into JSON.
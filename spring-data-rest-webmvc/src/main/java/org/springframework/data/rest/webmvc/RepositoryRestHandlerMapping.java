@@ -21,8 +21,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.repository.support.Repositories;
@@ -35,6 +37,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -43,10 +46,12 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.condition.PathPatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -72,6 +77,8 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 	private final ResourceMappings mappings;
 	private final RepositoryRestConfiguration configuration;
 	private final Optional<Repositories> repositories;
+	private final BaseUri baseUri;
+	private final Map<String, Map<String, PathPattern>> effectiveLookupPaths = new ConcurrentHashMap<>();
 
 	private RepositoryCorsConfigurationAccessor corsConfigurationAccessor;
 	private Optional<JpaHelper> jpaHelper = Optional.empty();
@@ -113,6 +120,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 		this.mappings = mappings;
 		this.configuration = config;
 		this.repositories = repositories;
+		this.baseUri = new BaseUri(config.getBasePath());
 		this.corsConfigurationAccessor = new RepositoryCorsConfigurationAccessor(mappings, NoOpStringValueResolver.INSTANCE,
 				repositories);
 	}
@@ -142,7 +150,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 			return null;
 		}
 
-		String repositoryLookupPath = new BaseUri(configuration.getBasePath()).getRepositoryLookupPath(lookupPath);
+		String repositoryLookupPath = baseUri.getRepositoryLookupPath(lookupPath);
 
 		// Repository root resource
 		if (!StringUtils.hasText(repositoryLookupPath)) {
@@ -198,7 +206,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 	protected CorsConfiguration getCorsConfiguration(Object handler, HttpServletRequest request) {
 
 		String lookupPath = getUrlPathHelper().getLookupPathForRequest(request);
-		String repositoryLookupPath = new BaseUri(configuration.getBasePath()).getRepositoryLookupPath(lookupPath);
+		String repositoryLookupPath = baseUri.getRepositoryLookupPath(lookupPath);
 		CorsConfiguration corsConfiguration = super.getCorsConfiguration(handler, request);
 
 		return repositories.filter(it -> StringUtils.hasText(repositoryLookupPath))//
@@ -222,7 +230,8 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 	/**
 	 * Exposes the effective repository resource lookup path as request attribute via
 	 * {@link #EFFECTIVE_LOOKUP_PATH_ATTRIBUTE}, i.e. {@code /people/search/\{search\}} instead of
-	 * {@code /\{repository\}/search/\{search\}}.
+	 * {@code /\{repository\}/search/\{search\}}. The parsed {@link PathPattern}s are cached per matched mapping pattern
+	 * and repository base path, so that only the first request to a particular combination has to parse the pattern.
 	 *
 	 * @param method must not be {@literal null}.
 	 * @param request must not be {@literal null}.
@@ -231,19 +240,48 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 	private void exposeEffectiveLookupPathKey(HandlerMethod method, HttpServletRequest request,
 			String repositoryBasePath) {
 
-		RequestMappingInfo mappingInfo = getMappingForMethod(method.getMethod(), method.getBeanType());
+		String pattern = getPattern(method, request);
 
-		if (mappingInfo == null) {
+		if (pattern == null) {
 			return;
 		}
 
-		String pattern = getPattern(mappingInfo, request);
+		PathPattern effectivePattern = effectiveLookupPaths //
+				.computeIfAbsent(pattern, key -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(repositoryBasePath, it -> parse(pattern.replace("/{repository}", it)));
+
+		request.setAttribute(EFFECTIVE_LOOKUP_PATH_ATTRIBUTE, effectivePattern);
+	}
+
+	private PathPattern parse(String pattern) {
 
 		PathPatternParser parser = getPatternParser();
 		parser = parser != null ? parser : PARSER;
 
-		request.setAttribute(EFFECTIVE_LOOKUP_PATH_ATTRIBUTE,
-				parser.parse(pattern.replace("/{repository}", repositoryBasePath)));
+		return parser.parse(pattern);
+	}
+
+	/**
+	 * Returns the pattern of the mapping that matched the current request. Prefers the best matching pattern already
+	 * exposed by the superclass during the lookup and only falls back to re-resolving the mapping for the given
+	 * {@link HandlerMethod} if that is not available.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	private String getPattern(HandlerMethod method, HttpServletRequest request) {
+
+		Object bestMatchingPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+		if (bestMatchingPattern != null) {
+			return bestMatchingPattern.toString();
+		}
+
+		RequestMappingInfo mappingInfo = getMappingForMethod(method.getMethod(), method.getBeanType());
+
+		return mappingInfo == null ? null : getPattern(mappingInfo, request);
 	}
 
 	private static String getPattern(RequestMappingInfo info, HttpServletRequest request) {
@@ -292,6 +330,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 		private final ResourceMappings mappings;
 		private final StringValueResolver embeddedValueResolver;
 		private final Optional<Repositories> repositories;
+		private final Map<String, Optional<CorsConfiguration>> configurations = new ConcurrentHashMap<>();
 
 		public RepositoryCorsConfigurationAccessor(ResourceMappings mappings, StringValueResolver embeddedValueResolver,
 				Optional<Repositories> repositories) {
@@ -305,9 +344,28 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 			this.repositories = repositories;
 		}
 
+		/**
+		 * Returns the {@link CorsConfiguration} for the repository exported under the given lookup path. Configurations
+		 * are computed once per exported repository base path and cached for the lifetime of the accessor, i.e. until a
+		 * new {@link StringValueResolver} is configured.
+		 *
+		 * @param lookupPath must not be {@literal null}.
+		 * @return
+		 */
 		Optional<CorsConfiguration> findCorsConfiguration(String lookupPath) {
 
-			return getResourceMetadata(getRepositoryBasePath(lookupPath))//
+			String basePath = getRepositoryBasePath(lookupPath);
+
+			if (!mappings.exportsTopLevelResourceFor(basePath)) {
+				return Optional.empty();
+			}
+
+			return configurations.computeIfAbsent(basePath, this::doFindCorsConfiguration);
+		}
+
+		private Optional<CorsConfiguration> doFindCorsConfiguration(String basePath) {
+
+			return getResourceMetadata(basePath)//
 					.flatMap(it -> repositories.flatMap(foo -> foo.getRepositoryInformationFor(it.getDomainType())))//
 					.map(it -> it.getRepositoryInterface())//
 					.map(it -> createConfiguration(it));
@@ -315,13 +373,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 
 		private Optional<ResourceMetadata> getResourceMetadata(String basePath) {
 
-			if (!mappings.exportsTopLevelResourceFor(basePath)) {
-				return Optional.empty();
-			}
-
-			return mappings.stream()//
-					.filter(it -> it.getPath().matches(basePath) && it.isExported())//
-					.findFirst();
+			return mappings.getExportedMetadataForPath(basePath);
 		}
 
 		/**
@@ -18,12 +18,12 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.web.bind.annotation.RequestMethod.*;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.rest.webmvc.json.JsonSchema;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.webmvc.support.MetadataDocumentCache;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 /**
@@ -38,31 +38,41 @@ import org.springframework.web.bind.annotation.RequestMapping;
 class RepositorySchemaController {
 
 	private final PersistentEntityToJsonSchemaConverter jsonSchemaConverter;
+	private final MetadataDocumentCache documentCache;
 
 	/**
-	 * Creates a new {@link RepositorySchemaController} using the given {@link PersistentEntityToJsonSchemaConverter}.
+	 * Creates a new {@link RepositorySchemaController} using the given {@link PersistentEntityToJsonSchemaConverter} and
+	 * {@link MetadataDocumentCache}.
 	 *
 	 * @param jsonSchemaConverter must not be {@literal null}.
+	 * @param documentCache must not be {@literal null}.
 	 */
 	@Autowired
-	public RepositorySchemaController(PersistentEntityToJsonSchemaConverter jsonSchemaConverter) {
+	public RepositorySchemaController(PersistentEntityToJsonSchemaConverter jsonSchemaConverter,
+			MetadataDocumentCache documentCache) {
 
 		Assert.notNull(jsonSchemaConverter, "PersistentEntityToJsonSchemaConverter must not be null");
+		Assert.notNull(documentCache, "MetadataDocumentCache must not be null");
 
 		this.jsonSchemaConverter = jsonSchemaConverter;
+		this.documentCache = documentCache;
 	}
 
 	/**
-	 * Exposes a JSON schema for the repository referenced.
+	 * Exposes a JSON schema for the repository referenced. The schema is cached per domain type, base URI and locale,
+	 * created again once the values of lookup types enumerated in it expire, and carries a strong ETag so that
+	 * conditional requests can be answered with {@code 304 Not Modified}.
 	 *
 	 * @param resourceInformation will never be {@literal null}.
+	 * @param headers will never be {@literal null}.
 	 * @return
 	 */
 	@RequestMapping(value = ProfileController.RESOURCE_PROFILE_MAPPING, method = GET,
 			produces = RestMediaTypes.SCHEMA_JSON_VALUE)
-	public HttpEntity<JsonSchema> schema(RootResourceInformation resourceInformation) {
+	public HttpEntity<?> schema(RootResourceInformation resourceInformation, @RequestHeader HttpHeaders headers) {
 
-		JsonSchema schema = jsonSchemaConverter.convert(resourceInformation.getDomainType());
-		return new ResponseEntity<JsonSchema>(schema, HttpStatus.OK);
+		Class<?> domainType = resourceInformation.getDomainType();
+
+		return documentCache.getDocument(domainType, headers, () -> jsonSchemaConverter.convert(domainType));
 	}
 }
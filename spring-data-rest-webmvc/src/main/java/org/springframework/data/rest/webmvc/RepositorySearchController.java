@@ -20,19 +20,28 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.MethodResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.util.ClassTypeInformation;
@@ -51,10 +60,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -73,9 +84,13 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 	private static final String SEARCH = "/search";
 	private static final String BASE_MAPPING = "/{repository}" + SEARCH;
+	private static final String DEFAULT_CURSOR_PARAM_NAME = "cursor";
 
 	private final RepositoryEntityLinks entityLinks;
 	private final ResourceMappings mappings;
+	private final Map<Method, Set<String>> uriParameterNames = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<String>> scrollPositionParameterNames = new ConcurrentHashMap<>();
+	private final @Nullable RepositoryRestConfiguration config;
 	private ResourceStatus resourceStatus;
 
 	/**
@@ -86,9 +101,27 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	 * @param entityLinks must not be {@literal null}.
 	 * @param mappings must not be {@literal null}.
 	 */
-	@Autowired
 	public RepositorySearchController(PagedResourcesAssembler<Object> assembler, RepositoryEntityLinks entityLinks,
 			ResourceMappings mappings, HttpHeadersPreparer headersPreparer) {
+		this(assembler, entityLinks, mappings, headersPreparer, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositorySearchController} using the given {@link PagedResourcesAssembler},
+	 * {@link EntityLinks}, {@link ResourceMappings}, {@link HttpHeadersPreparer} and
+	 * {@link RepositoryRestConfiguration}.
+	 *
+	 * @param assembler must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param config can be {@literal null}, in which case the defaults for scrolling through query method results are
+	 *          used.
+	 * @since 4.1
+	 */
+	@Autowired
+	public RepositorySearchController(PagedResourcesAssembler<Object> assembler, RepositoryEntityLinks entityLinks,
+			ResourceMappings mappings, HttpHeadersPreparer headersPreparer, @Nullable RepositoryRestConfiguration config) {
 
 		super(assembler);
 
@@ -98,6 +131,7 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 		this.entityLinks = entityLinks;
 		this.mappings = mappings;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.config = config;
 	}
 
 	/**
@@ -175,14 +209,34 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 			Sort sort, PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers) {
 
 		Method method = checkExecutability(resourceInformation, search);
-		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
-				assembler);
 
 		SearchResourceMappings searchMappings = resourceInformation.getSearchMappings();
 		MethodResourceMapping methodMapping = searchMappings.getExportedMethodMappingForPath(search);
 		Class<?> domainType = methodMapping.getReturnedDomainType();
 
-		return toModel(result, assembler, domainType, Optional.empty(), headers, resourceInformation);
+		ScrollPosition position = getScrollPosition(method, domainType, parameters);
+		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
+				position);
+
+		if (result.filter(Window.class::isInstance).isPresent()) {
+
+			Window<?> window = (Window<?>) result.get();
+
+			return ResponseEntity.ok(toCollectionModel(window, assembler, domainType, Optional.empty())
+					.add(ScrollPositionCursors.getLinks(window, position, getCursorParamName(), null)));
+		}
+
+		Optional<StatusAndHeaders> status = result //
+				.filter(Page.class::isInstance) //
+				.map(Page.class::cast) //
+				.flatMap(it -> resourceStatus.getStatusAndHeaders(headers, it, resourceInformation.getPersistentEntity()));
+
+		if (!status.isPresent()) {
+			return toModel(result, assembler, domainType, Optional.empty(), headers, resourceInformation);
+		}
+
+		return status.get().toCollectionResponseEntity(
+				() -> toModel(result, assembler, domainType, Optional.empty(), headers, resourceInformation).getBody());
 	}
 
 	/**
@@ -240,9 +294,9 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 			PersistentEntityResourceAssembler assembler) {
 
 		Method method = checkExecutability(resourceInformation, search);
-		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
-				assembler);
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
+				getScrollPosition(method, metadata.getDomainType(), parameters));
 		ResponseEntity<?> entity = toModel(result, assembler, metadata.getDomainType(), Optional.empty(), headers,
 				resourceInformation);
 		Object resource = entity.getBody();
@@ -327,33 +381,117 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	 * @param request
 	 * @param method
 	 * @param pageable
+	 * @param position the {@link ScrollPosition} to hand into the query method, {@literal null} if the query method does
+	 *          not declare a {@link ScrollPosition} parameter.
 	 * @return
 	 */
 	private Optional<Object> executeQueryMethod(final RepositoryInvoker invoker,
 			@RequestParam MultiValueMap<String, Object> parameters, Method method, DefaultedPageable pageable, Sort sort,
-			PersistentEntityResourceAssembler assembler) {
+			@Nullable ScrollPosition position) {
+
+		Set<String> uriParameterNames = getUriParameterNames(method);
+
+		if (uriParameterNames.isEmpty() && position == null) {
+			return invoker.invokeQueryMethod(method, parameters, pageable.getPageable(), sort);
+		}
 
 		MultiValueMap<String, Object> result = new LinkedMultiValueMap<String, Object>(parameters);
-		MethodParameters methodParameters = new MethodParameters(method, new AnnotationAttribute(Param.class));
-		List<MethodParameter> parameterList = methodParameters.getParameters();
-		List<TypeInformation<?>> parameterTypeInformations = ClassTypeInformation.from(method.getDeclaringClass())
-				.getParameterTypes(method);
 
-		parameters.entrySet().forEach(entry ->
+		if (position != null) {
+			getScrollPositionParameterName(method).ifPresent(it -> result.set(it, position));
+		}
 
-		methodParameters.getParameter(entry.getKey()).ifPresent(parameter -> {
+		for (String name : uriParameterNames) {
+			if (parameters.containsKey(name)) {
+				result.put(name, prepareUris(parameters.get(name)));
+			}
+		}
 
-			int parameterIndex = parameterList.indexOf(parameter);
-			TypeInformation<?> domainType = parameterTypeInformations.get(parameterIndex).getActualType();
+		return invoker.invokeQueryMethod(method, result, pageable.getPageable(), sort);
+	}
 
-			ResourceMetadata metadata = mappings.getMetadataFor(domainType.getType());
+	/**
+	 * Returns the names of the parameters of the given query method that refer to an exported domain type and thus
+	 * potentially need to be converted from URIs. Computed once per query method.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Set<String> getUriParameterNames(Method method) {
+
+		return uriParameterNames.computeIfAbsent(method, it -> {
+
+			MethodParameters methodParameters = new MethodParameters(it, new AnnotationAttribute(Param.class));
+			List<TypeInformation<?>> parameterTypeInformations = ClassTypeInformation.from(it.getDeclaringClass())
+					.getParameterTypes(it);
+
+			Set<String> result = new HashSet<>();
+
+			for (MethodParameter parameter : methodParameters.getParameters()) {
+
+				String name = parameter.getParameterName();
 
-			if (metadata != null && metadata.isExported()) {
-				result.put(parameter.getParameterName(), prepareUris(entry.getValue()));
+				if (name == null) {
+					continue;
+				}
+
+				TypeInformation<?> domainType = parameterTypeInformations.get(parameter.getParameterIndex()).getActualType();
+				ResourceMetadata metadata = mappings.getMetadataFor(domainType.getType());
+
+				if (metadata != null && metadata.isExported()) {
+					result.add(name);
+				}
 			}
-		}));
 
-		return invoker.invokeQueryMethod(method, result, pageable.getPageable(), sort);
+			return result.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(result);
+		});
+	}
+
+	/**
+	 * Returns the {@link ScrollPosition} to execute the given query method with. Uses the position encoded in the cursor
+	 * parameter of the request if present and falls back to the initial keyset or offset position depending on whether
+	 * keyset pagination is enabled for the given domain type.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param parameters the request parameters, must not be {@literal null}.
+	 * @return {@literal null} in case the given query method does not declare a {@link ScrollPosition} parameter.
+	 * @throws InvalidCursorException in case the request carries an invalid cursor.
+	 */
+	@Nullable
+	private ScrollPosition getScrollPosition(Method method, Class<?> domainType,
+			MultiValueMap<String, Object> parameters) {
+
+		if (!getScrollPositionParameterName(method).isPresent()) {
+			return null;
+		}
+
+		Object value = parameters.getFirst(getCursorParamName());
+		String cursor = value == null ? null : value.toString();
+
+		if (StringUtils.hasText(cursor)) {
+			return ScrollPositionCursors.fromCursor(cursor);
+		}
+
+		return config != null && config.isKeysetPaginationEnabledFor(domainType) //
+				? ScrollPosition.keyset() //
+				: ScrollPosition.offset();
+	}
+
+	/**
+	 * Returns the name of the {@link ScrollPosition} parameter of the given query method. Computed once per query method.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<String> getScrollPositionParameterName(Method method) {
+
+		return scrollPositionParameterNames.computeIfAbsent(method,
+				ScrollPositionCursors::getScrollPositionParameterName);
+	}
+
+	private String getCursorParamName() {
+		return config == null ? DEFAULT_CURSOR_PARAM_NAME : config.getCursorParamName();
 	}
 
 	/**
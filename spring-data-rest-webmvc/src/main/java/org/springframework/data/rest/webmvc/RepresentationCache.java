@@ -0,0 +1,632 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Links;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.util.Instantiatable;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * A size-bounded cache of the rendered representations of item resources. Representations are keyed by the type,
+ * identifier and version of the entity, the request URI, the request headers influencing the representation (the
+ * requested media type and language, the credentials and the ones used to calculate the base URI of links) as well as
+ * the authenticated principal and the current locale. Thus, they are only cached for entities with a version property,
+ * and a changed entity never hits a stale representation. Representations depending on any other request state must
+ * not be cached, i.e. the cache must not be enabled if such customizations are in place. The request related parts of
+ * the key are only kept as SHA-256 digest so that no credentials are retained.
+ * <p>
+ * Lookups don't acquire any lock. Once the configured size is exceeded, entries are evicted in approximate
+ * least-recently-used order, giving entries accessed since the last sweep a second chance. Entries are dropped eagerly
+ * on {@link AfterSaveEvent}s, {@link AfterDeleteEvent}s and link events for the entity, looking them up through an
+ * index of the keys cached per entity.
+ * <p>
+ * {@link RepositoryEntityController} looks up the cached representation via
+ * {@link #prepare(PersistentEntity, Object, HttpHeaders)} before assembling the resource. As a
+ * {@link ResponseBodyAdvice}, the cache then either writes the cached representation or captures the one written by the
+ * Jackson-based {@link HttpMessageConverter}.
+ *
+ * @since 4.1
+ * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setItemResourceCacheSize(long)
+ */
+public class RepresentationCache implements ApplicationListener<RepositoryEvent>, ResponseBodyAdvice<Object> {
+
+	private static final String KEY_ATTRIBUTE = RepresentationCache.class.getName() + ".KEY";
+	private static final List<String> VARYING_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE,
+			HttpHeaders.AUTHORIZATION, "Forwarded", "X-Forwarded-Host", "X-Forwarded-Port", "X-Forwarded-Proto",
+			"X-Forwarded-Prefix", "X-Forwarded-Ssl");
+	private static final int ENTRY_OVERHEAD = 128;
+
+	private final PersistentEntities entities;
+	private final long maxSize;
+	private final Map<Key, Representation> representations = new ConcurrentHashMap<>();
+	private final Map<Key, Set<Key>> keysByEntity = new ConcurrentHashMap<>();
+	private final Queue<Representation> evictionQueue = new ConcurrentLinkedQueue<>();
+	private final Lock evictionLock = new ReentrantLock();
+	private final AtomicLong size = new AtomicLong();
+	private final AtomicInteger removedInQueue = new AtomicInteger();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link RepresentationCache} for the given {@link PersistentEntities} and maximum size.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param maxSize the approximate maximum number of bytes to be used by the cached representations, {@literal 0}
+	 *          disables the cache.
+	 */
+	public RepresentationCache(PersistentEntities entities, long maxSize) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null");
+		Assert.isTrue(maxSize >= 0, "Maximum size must not be negative");
+
+		this.entities = entities;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns whether the cache is enabled at all.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns the cached representation of the given domain object for the current request. If there is none, registers
+	 * the cache key with the current request so that the representation rendered eventually is added to the cache.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param domainObject must not be {@literal null}.
+	 * @param requestHeaders can be {@literal null}.
+	 * @return the {@link EntityModel} to be returned from the controller in case a cached representation is going to be
+	 *         written for the current request, i.e. the resource doesn't need to be assembled at all, or
+	 *         {@link Optional#empty()} otherwise.
+	 */
+	Optional<EntityModel<?>> prepare(PersistentEntity<?, ?> entity, Object domainObject,
+			@Nullable HttpHeaders requestHeaders) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(domainObject, "Domain object must not be null");
+
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (!isEnabled() || versionProperty == null || requestHeaders == null
+				|| !(attributes instanceof ServletRequestAttributes)) {
+			return Optional.empty();
+		}
+
+		Object version = entity.getPropertyAccessor(domainObject).getProperty(versionProperty);
+
+		if (version == null) {
+			return Optional.empty();
+		}
+
+		HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+		Object id = entity.getIdentifierAccessor(domainObject).getRequiredIdentifier();
+		Key key = new Key(entity.getType(), id, version, getRequestSignature(request, requestHeaders));
+
+		Representation representation = representations.get(key);
+
+		if (representation == null) {
+
+			misses.increment();
+			request.setAttribute(KEY_ATTRIBUTE, key);
+
+			return Optional.empty();
+		}
+
+		hits.increment();
+		representation.referenced = true;
+
+		return Optional.of(new CachedModel(domainObject, representation.value));
+	}
+
+	/**
+	 * Returns the current {@link Statistics} of the cache.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(hits.sum(), misses.sum(), evictions.sum(), representations.size(), size.get());
+	}
+
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (!isEnabled() || !(event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent
+				|| event instanceof AfterLinkSaveEvent || event instanceof AfterLinkDeleteEvent)) {
+			return;
+		}
+
+		Object source = event.getSource();
+
+		entities.getPersistentEntity(ProxyUtils.getUserClass(source)) //
+				.map(it -> Key.forEntity(it.getType(), it.getIdentifierAccessor(source).getIdentifier())) //
+				.filter(it -> it.id != null) //
+				.ifPresent(this::evict);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return isEnabled() && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+	}
+
+	@Nullable
+	@Override
+	public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		if (body instanceof CachedModel) {
+			return new RawValue(((CachedModel) body).representation);
+		}
+
+		if (!(body instanceof EntityModel) || !(request instanceof ServletServerHttpRequest)) {
+			return body;
+		}
+
+		Object key = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(KEY_ATTRIBUTE);
+
+		return key == null ? body : new CachingRepresentation((Key) key, body);
+	}
+
+	private void put(Key key, String value) {
+
+		Representation representation = new Representation(key, value);
+
+		if (representation.size > maxSize || representations.putIfAbsent(key, representation) != null) {
+			return;
+		}
+
+		keysByEntity.compute(key.getEntityKey(), (__, keys) -> {
+
+			Set<Key> result = keys == null ? new HashSet<>() : keys;
+			result.add(key);
+
+			return result;
+		});
+
+		evictionQueue.offer(representation);
+
+		if (size.addAndGet(representation.size) > maxSize) {
+			evictIfNecessary();
+		}
+	}
+
+	/**
+	 * Evicts entries in the order they were added until the cache is within its configured size again. Entries
+	 * accessed since they were last inspected are re-queued once instead. Only one thread evicts at a time, others
+	 * adding entries concurrently rely on that thread to catch up.
+	 */
+	private void evictIfNecessary() {
+
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+
+		try {
+
+			while (size.get() > maxSize) {
+
+				Representation candidate = evictionQueue.poll();
+
+				if (candidate == null) {
+					return;
+				}
+
+				if (candidate.removed) {
+					removedInQueue.decrementAndGet();
+					continue;
+				}
+
+				if (candidate.referenced) {
+
+					candidate.referenced = false;
+					evictionQueue.offer(candidate);
+
+					continue;
+				}
+
+				if (representations.remove(candidate.key, candidate)) {
+
+					size.addAndGet(-candidate.size);
+					evictions.increment();
+					unindex(candidate.key);
+
+				} else { // concurrently evicted for the entity
+					removedInQueue.decrementAndGet();
+				}
+			}
+
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Drops all entries cached for the entity identified by the given key, looked up through the index of keys per
+	 * entity. The entries are only marked as removed in the eviction queue, which is purged once it contains more removed
+	 * than live entries.
+	 *
+	 * @param entityKey must not be {@literal null}.
+	 */
+	private void evict(Key entityKey) {
+
+		Set<Key> keys = keysByEntity.remove(entityKey);
+
+		if (keys == null) {
+			return;
+		}
+
+		for (Key key : keys) {
+
+			Representation representation = representations.remove(key);
+
+			if (representation != null) {
+
+				representation.removed = true;
+				removedInQueue.incrementAndGet();
+				size.addAndGet(-representation.size);
+			}
+		}
+
+		if (removedInQueue.get() > representations.size() && evictionLock.tryLock()) {
+
+			try {
+
+				evictionQueue.removeIf(it -> {
+
+					if (!it.removed) {
+						return false;
+					}
+
+					removedInQueue.decrementAndGet();
+
+					return true;
+				});
+
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void unindex(Key key) {
+
+		keysByEntity.computeIfPresent(key.getEntityKey(), (__, keys) -> {
+
+			keys.remove(key);
+
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	private static String getRequestSignature(HttpServletRequest request, HttpHeaders headers) {
+
+		StringBuilder builder = new StringBuilder(request.getRequestURL());
+		String query = request.getQueryString();
+
+		if (query != null) {
+			builder.append('?').append(query);
+		}
+
+		for (String header : VARYING_HEADERS) {
+			builder.append('|').append(headers.getOrEmpty(header));
+		}
+
+		Principal principal = request.getUserPrincipal();
+
+		builder.append('|').append(principal == null ? "" : principal.getName());
+		builder.append('|').append(LocaleContextHolder.getLocale());
+
+		try {
+
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+
+			return Base64.getEncoder().encodeToString(digest);
+
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException("SHA-256 is not supported", o_O);
+		}
+	}
+
+	/**
+	 * Statistics about the usage of the {@link RepresentationCache}.
+	 */
+	public static final class Statistics {
+
+		private final long hits, misses, evictions, count, size;
+
+		private Statistics(long hits, long misses, long evictions, long count, long size) {
+
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.count = count;
+			this.size = size;
+		}
+
+		/**
+		 * Returns the number of requests answered with a cached representation.
+		 *
+		 * @return
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of requests for which no cached representation was available.
+		 *
+		 * @return
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the ratio of hits to all cache lookups.
+		 *
+		 * @return a value between {@literal 0} and {@literal 1}, {@literal 0} if no lookups happened yet.
+		 */
+		public double getHitRate() {
+
+			long lookups = hits + misses;
+
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+
+		/**
+		 * Returns the number of representations evicted to stay within the configured size.
+		 *
+		 * @return
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * Returns the number of representations currently cached.
+		 *
+		 * @return
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the approximate number of bytes used by the representations currently cached.
+		 *
+		 * @return
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("RepresentationCache.Statistics(hits=%s, misses=%s, evictions=%s, count=%s, size=%s)",
+					hits, misses, evictions, count, size);
+		}
+	}
+
+	private static final class Key {
+
+		private final Class<?> type;
+		private final @Nullable Object id, version;
+		private final String request;
+
+		Key(Class<?> type, @Nullable Object id, @Nullable Object version, @Nullable String request) {
+
+			this.type = type;
+			this.id = id;
+			this.version = version;
+			this.request = request == null ? "" : request;
+		}
+
+		static Key forEntity(Class<?> type, @Nullable Object id) {
+			return new Key(type, id, null, null);
+		}
+
+		Key getEntityKey() {
+			return forEntity(type, id);
+		}
+
+		boolean refersToSameEntityAs(Key other) {
+			return type.equals(other.type) && Objects.equals(id, other.id);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+
+			return refersToSameEntityAs(that) && Objects.equals(version, that.version) && request.equals(that.request);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, id, version, request);
+		}
+	}
+
+	/**
+	 * A cached representation along with the flags whether it has been accessed since it was last inspected for eviction
+	 * and whether it has already been removed from the cache while still being queued for eviction.
+	 */
+	private static final class Representation {
+
+		private final Key key;
+		private final String value;
+		private final long size;
+		private volatile boolean referenced, removed;
+
+		Representation(Key key, String value) {
+
+			this.key = key;
+			this.value = value;
+			this.size = 2L * (value.length() + key.request.length()) + ENTRY_OVERHEAD;
+		}
+	}
+
+	/**
+	 * The {@link EntityModel} returned from the controller in case a cached representation is available. Never rendered
+	 * itself but replaced by the cached representation in {@link RepresentationCache#beforeBodyWrite}.
+	 */
+	static final class CachedModel extends EntityModel<Object> {
+
+		private final String representation;
+
+		@SuppressWarnings("deprecation")
+		CachedModel(Object content, String representation) {
+
+			super(content, Links.NONE);
+
+			this.representation = representation;
+		}
+	}
+
+	/**
+	 * Renders the given body into a {@link TokenBuffer} using the {@link SerializerProvider} of the converter in use and
+	 * replays the buffer to both the {@link JsonGenerator} of the converter and one capturing the representation to be
+	 * added to the cache. The latter is set up with the pretty printer, features and character escapes of the former,
+	 * so that the cached representation equals the one written.
+	 */
+	private final class CachingRepresentation implements JsonSerializable {
+
+		private final Key key;
+		private final Object body;
+
+		CachingRepresentation(Key key, Object body) {
+
+			this.key = key;
+			this.body = body;
+		}
+
+		@Override
+		public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+
+			ObjectCodec codec = gen.getCodec();
+
+			if (codec == null) {
+				serializers.defaultSerializeValue(body, gen);
+				return;
+			}
+
+			TokenBuffer buffer = new TokenBuffer(codec, false);
+
+			serializers.defaultSerializeValue(body, buffer);
+			buffer.serialize(gen);
+
+			StringWriter writer = new StringWriter();
+
+			try (JsonGenerator capture = codec.getFactory().createGenerator(writer)) {
+
+				capture.overrideStdFeatures(gen.getFeatureMask(), -1);
+				capture.setCharacterEscapes(gen.getCharacterEscapes());
+				capture.setHighestNonEscapedChar(gen.getHighestEscapedChar());
+				capture.setPrettyPrinter(copy(gen.getPrettyPrinter()));
+
+				buffer.serialize(capture);
+			}
+
+			put(key, writer.toString());
+		}
+
+		@Override
+		public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+				throws IOException {
+			serialize(gen, serializers);
+		}
+
+		@Nullable
+		private PrettyPrinter copy(@Nullable PrettyPrinter printer) {
+
+			return printer instanceof Instantiatable //
+					? (PrettyPrinter) ((Instantiatable<?>) printer).createInstance() //
+					: printer;
+		}
+	}
+}
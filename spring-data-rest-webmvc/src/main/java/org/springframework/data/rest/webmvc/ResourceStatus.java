@@ -15,16 +15,27 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.core.support.EntityVersion;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Simple abstraction to capture the status of a resource to determine whether it has been modified or not and produce
@@ -36,6 +47,7 @@ import org.springframework.util.Assert;
  */
 class ResourceStatus {
 
+	private static final String WEAK_PREFIX = "W/";
 	private static final String INVALID_DOMAIN_OBJECT = "Domain object %s is not an instance of the given PersistentEntity of type %s";
 
 	private final HttpHeadersPreparer preparer;
@@ -82,6 +94,126 @@ class ResourceStatus {
 				: StatusAndHeaders.modified(responseHeaders);
 	}
 
+	/**
+	 * Returns the {@link StatusAndHeaders} for a not modified resource in case the given {@link EntityVersion} satisfies
+	 * the conditions expressed in the given {@link HttpHeaders}. Other than
+	 * {@link #getStatusAndHeaders(HttpHeaders, Object, PersistentEntity)} this only considers the resource not modified
+	 * if the version information required to evaluate the condition is actually present, so that the caller can fall
+	 * back to evaluating the condition against the fully loaded entity otherwise.
+	 *
+	 * @param requestHeaders must not be {@literal null}.
+	 * @param version must not be {@literal null}.
+	 * @return the {@link StatusAndHeaders} for a not modified resource or {@link Optional#empty()} if the resource
+	 *         cannot be considered unmodified based on the given {@link EntityVersion}.
+	 * @since 4.1
+	 */
+	public Optional<StatusAndHeaders> getNotModifiedStatusAndHeaders(HttpHeaders requestHeaders, EntityVersion version) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null");
+		Assert.notNull(version, "EntityVersion must not be null");
+
+		List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+		long ifModifiedSince = requestHeaders.getIfModifiedSince();
+
+		boolean eTagMatches = !ifNoneMatch.isEmpty() && version.getVersion() //
+				.map(it -> ETag.from(it.toString()).equals(ETag.from(ifNoneMatch.get(0)))) //
+				.orElse(false);
+
+		boolean stillValid = ifModifiedSince != -1 && version.getLastModified() //
+				.map(it -> it.toEpochMilli() / 1000 * 1000 <= ifModifiedSince) //
+				.orElse(false);
+
+		return eTagMatches || stillValid //
+				? Optional.of(StatusAndHeaders.notModified(preparer.prepareHeaders(version))) //
+				: Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link StatusAndHeaders} for the given {@link Page} of entities of the given {@link PersistentEntity}.
+	 * Uses a weak {@link ETag} calculated from the identifiers and versions of the page's content, the page metadata and
+	 * the current request's URI and {@code Accept} header to evaluate an {@code If-None-Match} header. Returns
+	 * {@link Optional#empty()} in case no such {@link ETag} can be calculated, i.e. if the entity does not have a version
+	 * property or the page contains elements that are not instances of the given {@link PersistentEntity}.
+	 *
+	 * @param requestHeaders must not be {@literal null}.
+	 * @param page must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 4.1
+	 */
+	public Optional<StatusAndHeaders> getStatusAndHeaders(HttpHeaders requestHeaders, Page<?> page,
+			PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null");
+		Assert.notNull(page, "Page must not be null");
+		Assert.notNull(entity, "PersistentEntity must not be null");
+
+		return getCollectionETag(requestHeaders, page, entity).map(it -> {
+
+			HttpHeaders responseHeaders = new HttpHeaders();
+			responseHeaders.setETag(it);
+
+			return matchesWeakly(requestHeaders.getIfNoneMatch(), it) //
+					? StatusAndHeaders.notModified(responseHeaders) //
+					: StatusAndHeaders.modified(responseHeaders);
+		});
+	}
+
+	private static Optional<String> getCollectionETag(HttpHeaders requestHeaders, Page<?> page,
+			PersistentEntity<?, ?> entity) {
+
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+
+		if (versionProperty == null) {
+			return Optional.empty();
+		}
+
+		StringBuilder builder = new StringBuilder() //
+				.append(getCurrentRequestUri()).append('|') //
+				.append(requestHeaders.getAccept()).append('|') //
+				.append(page.getNumber()).append('|') //
+				.append(page.getSize()).append('|') //
+				.append(page.getTotalElements());
+
+		for (Object element : page) {
+
+			if (element == null || !entity.getType().isInstance(element)) {
+				return Optional.empty();
+			}
+
+			builder.append('|') //
+					.append(entity.getIdentifierAccessor(element).getIdentifier()).append(':') //
+					.append(entity.getPropertyAccessor(element).getProperty(versionProperty));
+		}
+
+		byte[] source = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+		return Optional.of(WEAK_PREFIX.concat("\"").concat(DigestUtils.md5DigestAsHex(source)).concat("\""));
+	}
+
+	private static boolean matchesWeakly(List<String> ifNoneMatch, String eTag) {
+
+		String candidate = eTag.substring(WEAK_PREFIX.length());
+
+		return ifNoneMatch.stream() //
+				.map(it -> it.startsWith(WEAK_PREFIX) ? it.substring(WEAK_PREFIX.length()) : it) //
+				.anyMatch(it -> it.equals(candidate) || it.equals("*"));
+	}
+
+	private static String getCurrentRequestUri() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return "";
+		}
+
+		HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+		String query = request.getQueryString();
+
+		return query == null ? request.getRequestURI() : request.getRequestURI().concat("?").concat(query);
+	}
+
 	public static class StatusAndHeaders {
 
 		private final HttpHeaders headers;
@@ -108,17 +240,32 @@ class ResourceStatus {
 		}
 
 		/**
-		 * Creates a {@link ResponseEntity} based on the given {@link PersistentEntityResource}.
+		 * Creates a {@link ResponseEntity} based on the given {@link EntityModel}, usually a
+		 * {@link PersistentEntityResource}.
 		 *
-		 * @param supplier a {@link Supplier} to provide a {@link PersistentEntityResource} eventually, must not be
-		 *          {@literal null}.
+		 * @param supplier a {@link Supplier} to provide an {@link EntityModel} eventually, must not be {@literal null}.
 		 * @return
 		 */
-		public ResponseEntity<EntityModel<?>> toResponseEntity(Supplier<PersistentEntityResource> supplier) {
+		public ResponseEntity<EntityModel<?>> toResponseEntity(Supplier<? extends EntityModel<?>> supplier) {
 
 			return modified //
 					? new ResponseEntity<EntityModel<?>>(supplier.get(), headers, HttpStatus.OK) //
 					: new ResponseEntity<EntityModel<?>>(headers, HttpStatus.NOT_MODIFIED);
 		}
+
+		/**
+		 * Creates a {@link ResponseEntity} based on the given collection resource.
+		 *
+		 * @param supplier a {@link Supplier} to provide the collection resource eventually, must not be {@literal null}.
+		 *          Will only be invoked if the resource has been modified.
+		 * @return
+		 * @since 4.1
+		 */
+		public <T> ResponseEntity<T> toCollectionResponseEntity(Supplier<T> supplier) {
+
+			return modified //
+					? new ResponseEntity<T>(supplier.get(), headers, HttpStatus.OK) //
+					: new ResponseEntity<T>(headers, HttpStatus.NOT_MODIFIED);
+		}
 	}
 }
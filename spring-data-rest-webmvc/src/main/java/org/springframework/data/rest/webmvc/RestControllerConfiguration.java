@@ -15,18 +15,27 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
+import org.springframework.data.rest.core.support.EntityVersionProbe;
 import org.springframework.data.rest.webmvc.alps.AlpsController;
+import org.springframework.data.rest.webmvc.alps.RootResourceInformationToAlpsDescriptorConverter;
 import org.springframework.data.rest.webmvc.json.JsonSchema;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.webmvc.support.MetadataDocumentCache;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.server.EntityLinks;
+import org.springframework.plugin.core.PluginRegistry;
 
 /**
  * Configuration class registering required {@link org.springframework.stereotype.Component components} that declare
@@ -71,13 +80,22 @@ public class RestControllerConfiguration {
 	 * @param entityLinks the accessor to links pointing to controllers backing an entity type. Must not be *
 	 *          {@literal null}.
 	 * @param headersPreparer must not be {@literal null}.
+	 * @param versionProbes the {@link EntityVersionProbe}s to answer conditional requests with. Must not be
+	 *          {@literal null}.
+	 * @param representationCache the cache for rendered item resources. Must not be {@literal null}.
+	 * @param pageableResolver the resolver to render links between slices with. Must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositoryEntityController repositoryEntityController(RepositoryEntityLinks entityLinks,
-			HttpHeadersPreparer headersPreparer) {
+			HttpHeadersPreparer headersPreparer, ObjectProvider<EntityVersionProbe<?>> versionProbes,
+			RepresentationCache representationCache, HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
+
+		PluginRegistry<EntityVersionProbe<?>, Class<?>> probes = PluginRegistry
+				.of(versionProbes.orderedStream().collect(Collectors.toList()));
+
 		return new RepositoryEntityController(repositories, restConfiguration, entityLinks, resourcesAssembler,
-				headersPreparer);
+				headersPreparer, probes, representationCache, pageableResolver);
 	}
 
 	/**
@@ -103,30 +121,36 @@ public class RestControllerConfiguration {
 	@Bean
 	RepositorySearchController repositorySearchController(RepositoryEntityLinks entityLinks,
 			HttpHeadersPreparer headersPreparer) {
-		return new RepositorySearchController(resourcesAssembler, entityLinks, resourceMappings, headersPreparer);
+		return new RepositorySearchController(resourcesAssembler, entityLinks, resourceMappings, headersPreparer,
+				restConfiguration);
 	}
 
 	/**
 	 * The controller that exposes the JSON schema via {@code /repository/schema}.
 	 *
 	 * @param jsonSchemaConverter the converter to create the {@link JsonSchema}. Must not be {@literal null}.
+	 * @param documentCache the cache for the rendered {@link JsonSchema}s. Must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositorySchemaController repositorySchemaController(
-			PersistentEntityToJsonSchemaConverter jsonSchemaConverter) {
-		return new RepositorySchemaController(jsonSchemaConverter);
+			PersistentEntityToJsonSchemaConverter jsonSchemaConverter,
+			@Qualifier("jsonSchemaDocumentCache") MetadataDocumentCache documentCache) {
+		return new RepositorySchemaController(jsonSchemaConverter, documentCache);
 	}
 
 	/**
 	 * The controller that exposes semantic documentation in the <a href="http://alps.io/">ALPS</a> (Application Level
 	 * Profile Semantics) format.
 	 *
+	 * @param alpsConverter the converter to create the ALPS documents. Must not be {@literal null}.
+	 * @param documentCache the cache for the rendered ALPS documents. Must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
-	AlpsController alpsController() {
-		return new AlpsController(restConfiguration);
+	AlpsController alpsController(RootResourceInformationToAlpsDescriptorConverter alpsConverter,
+			@Qualifier("alpsDocumentCache") MetadataDocumentCache documentCache) {
+		return new AlpsController(restConfiguration, alpsConverter, documentCache);
 	}
 
 	/**
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.Param;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.server.core.AnnotationAttribute;
+import org.springframework.hateoas.server.core.MethodParameters;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Translates {@link ScrollPosition}s into opaque cursors to be handed out to clients and back. Keyset positions are
+ * encoded as the direction and the key values of the position including their type, so that they can be restored
+ * without knowledge about the domain type. Only a fixed set of value types is supported to not allow clients to make
+ * us instantiate arbitrary types.
+ *
+ * @since 4.1
+ */
+class ScrollPositionCursors {
+
+	private static final String OFFSET = "o";
+	private static final String FORWARD = "f";
+	private static final String BACKWARD = "b";
+	private static final String DATE = "Date";
+	private static final Map<String, Function<String, Object>> PARSERS = new HashMap<>();
+	private static final Map<Class<?>, String> TYPES = new HashMap<>();
+
+	static {
+
+		register(String.class, Function.identity());
+		register(Long.class, Long::valueOf);
+		register(Integer.class, Integer::valueOf);
+		register(Short.class, Short::valueOf);
+		register(Byte.class, Byte::valueOf);
+		register(Double.class, Double::valueOf);
+		register(Float.class, Float::valueOf);
+		register(Boolean.class, Boolean::valueOf);
+		register(Character.class, it -> it.charAt(0));
+		register(BigDecimal.class, BigDecimal::new);
+		register(BigInteger.class, BigInteger::new);
+		register(UUID.class, UUID::fromString);
+		register(Instant.class, Instant::parse);
+		register(LocalDate.class, LocalDate::parse);
+		register(LocalDateTime.class, LocalDateTime::parse);
+		register(LocalTime.class, LocalTime::parse);
+		register(OffsetDateTime.class, OffsetDateTime::parse);
+		register(ZonedDateTime.class, ZonedDateTime::parse);
+
+		PARSERS.put(DATE, it -> Date.from(Instant.parse(it)));
+	}
+
+	private ScrollPositionCursors() {}
+
+	/**
+	 * Returns the cursor for the given {@link ScrollPosition}.
+	 *
+	 * @param position must not be {@literal null}.
+	 * @return {@link Optional#empty()} in case the position cannot be represented as cursor, i.e. it contains key values
+	 *         of unsupported types.
+	 */
+	static Optional<String> toCursor(ScrollPosition position) {
+
+		if (position instanceof OffsetScrollPosition) {
+			return Optional.of(encode(OFFSET + ((OffsetScrollPosition) position).getOffset()));
+		}
+
+		if (!(position instanceof KeysetScrollPosition)) {
+			return Optional.empty();
+		}
+
+		KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+		StringJoiner joiner = new StringJoiner("&", keyset.scrollsBackward() ? BACKWARD : FORWARD, "");
+
+		for (Map.Entry<String, Object> entry : keyset.getKeys().entrySet()) {
+
+			Object value = entry.getValue();
+			String type = value instanceof Date ? DATE : value == null ? null : TYPES.get(value.getClass());
+
+			if (type == null) {
+				return Optional.empty();
+			}
+
+			String rendered = value instanceof Date //
+					? Instant.ofEpochMilli(((Date) value).getTime()).toString()
+					: value.toString();
+
+			joiner.add(urlEncode(entry.getKey()) + "=" + type + ":" + urlEncode(rendered));
+		}
+
+		return Optional.of(encode(joiner.toString()));
+	}
+
+	/**
+	 * Returns the {@link ScrollPosition} for the given cursor.
+	 *
+	 * @param cursor must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @throws InvalidCursorException in case the given cursor is invalid.
+	 */
+	static ScrollPosition fromCursor(String cursor) {
+
+		String source;
+
+		try {
+			source = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException o_O) {
+			throw new InvalidCursorException(cursor, o_O);
+		}
+
+		if (source.startsWith(OFFSET)) {
+
+			try {
+				return ScrollPosition.offset(Long.parseLong(source.substring(OFFSET.length())));
+			} catch (RuntimeException o_O) {
+				throw new InvalidCursorException(cursor, o_O);
+			}
+		}
+
+		boolean forward = source.startsWith(FORWARD);
+
+		if (!forward && !source.startsWith(BACKWARD)) {
+			throw new InvalidCursorException(cursor, null);
+		}
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (String entry : StringUtils.delimitedListToStringArray(source.substring(1), "&")) {
+
+			if (!StringUtils.hasText(entry)) {
+				continue;
+			}
+
+			int equals = entry.indexOf('=');
+			int colon = entry.indexOf(':', equals);
+			Function<String, Object> parser = equals < 0 || colon < 0 ? null
+					: PARSERS.get(entry.substring(equals + 1, colon));
+
+			if (parser == null) {
+				throw new InvalidCursorException(cursor, null);
+			}
+
+			try {
+				keys.put(urlDecode(entry.substring(0, equals)), parser.apply(urlDecode(entry.substring(colon + 1))));
+			} catch (RuntimeException o_O) {
+				throw new InvalidCursorException(cursor, o_O);
+			}
+		}
+
+		return forward ? ScrollPosition.forward(keys) : ScrollPosition.backward(keys);
+	}
+
+	/**
+	 * Returns the name of the {@link ScrollPosition} parameter of the given query method, i.e. the name to bind a
+	 * {@link ScrollPosition} to when invoking the method through a
+	 * {@link org.springframework.data.repository.support.RepositoryInvoker}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return {@link Optional#empty()} in case the method does not declare a {@link ScrollPosition} parameter or its name
+	 *         cannot be determined.
+	 */
+	static Optional<String> getScrollPositionParameterName(Method method) {
+
+		MethodParameters parameters = new MethodParameters(method, new AnnotationAttribute(Param.class));
+
+		return parameters.getParameters().stream() //
+				.filter(it -> ScrollPosition.class.isAssignableFrom(it.getParameterType())) //
+				.map(MethodParameter::getParameterName) //
+				.filter(StringUtils::hasText) //
+				.findFirst();
+	}
+
+	/**
+	 * Returns the {@code next} and {@code prev} links for the given {@link Window} obtained by scrolling from the given
+	 * {@link ScrollPosition}. The links are based on the URI of the current request with the cursor parameter replaced.
+	 *
+	 * @param window must not be {@literal null}.
+	 * @param position the position the window was obtained for, can be {@literal null} in case it is unknown.
+	 * @param cursorParameter must not be {@literal null} or empty.
+	 * @param pageParameter the name of the page parameter to drop from the request URI, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Links getLinks(Window<?> window, @Nullable ScrollPosition position, String cursorParameter,
+			@Nullable String pageParameter) {
+
+		if (window.isEmpty()) {
+			return Links.NONE;
+		}
+
+		ScrollPosition first = window.positionAt(0);
+		ScrollPosition last = window.positionAt(window.size() - 1);
+
+		if (first instanceof OffsetScrollPosition) {
+			return window.hasNext() ? toLink(last, IanaLinkRelations.NEXT.value(), cursorParameter, pageParameter)
+					: Links.NONE;
+		}
+
+		if (!(first instanceof KeysetScrollPosition) || !(last instanceof KeysetScrollPosition)) {
+			return Links.NONE;
+		}
+
+		boolean backward = position instanceof KeysetScrollPosition
+				&& ((KeysetScrollPosition) position).scrollsBackward();
+		boolean initial = position == null || position.isInitial();
+
+		Links links = Links.NONE;
+
+		if (backward ? window.hasNext() : !initial) {
+			links = links.and(toLink(ScrollPosition.backward(((KeysetScrollPosition) first).getKeys()),
+					IanaLinkRelations.PREV.value(), cursorParameter, pageParameter));
+		}
+
+		if (backward || window.hasNext()) {
+			links = links.and(toLink(ScrollPosition.forward(((KeysetScrollPosition) last).getKeys()),
+					IanaLinkRelations.NEXT.value(), cursorParameter, pageParameter));
+		}
+
+		return links;
+	}
+
+	private static Links toLink(ScrollPosition position, String rel, String cursorParameter,
+			@Nullable String pageParameter) {
+
+		return toCursor(position).map(it -> {
+
+			ServletUriComponentsBuilder builder = ServletUriComponentsBuilder.fromCurrentRequest();
+
+			if (pageParameter != null) {
+				builder.replaceQueryParam(pageParameter);
+			}
+
+			return Links.of(Link.of(builder.replaceQueryParam(cursorParameter, it).build().toUriString(), rel));
+
+		}).orElse(Links.NONE);
+	}
+
+	private static void register(Class<?> type, Function<String, Object> parser) {
+
+		PARSERS.put(type.getSimpleName(), parser);
+		TYPES.put(type, type.getSimpleName());
+	}
+
+	private static String encode(String source) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String urlEncode(String source) {
+		return URLEncoder.encode(source, StandardCharsets.UTF_8);
+	}
+
+	private static String urlDecode(String source) {
+		return URLDecoder.decode(source, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A {@link CollectionModel} that does not hold any {@link PersistentEntityResource}s itself but turns the entities of
+ * the underlying source into resources one by one while being rendered. This allows large, unpaged collection
+ * resources to be written without keeping all resources and their links in memory at the same time. All entities are
+ * rendered under the given collection {@link LinkRelation}.
+ *
+ * @since 4.1
+ * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setStreamUnpagedCollectionResources(boolean)
+ */
+public class StreamingCollectionModel extends CollectionModel<PersistentEntityResource> {
+
+	private final Iterable<?> source;
+	private final PersistentEntityResourceAssembler assembler;
+	private final LinkRelation collectionRel;
+
+	/**
+	 * Creates a new {@link StreamingCollectionModel} for the given source entities, {@link PersistentEntityResourceAssembler}
+	 * and collection {@link LinkRelation}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param collectionRel must not be {@literal null}.
+	 */
+	StreamingCollectionModel(Iterable<?> source, PersistentEntityResourceAssembler assembler,
+			LinkRelation collectionRel) {
+
+		super(Collections.emptyList());
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(assembler, "PersistentEntityResourceAssembler must not be null");
+		Assert.notNull(collectionRel, "Collection link relation must not be null");
+
+		this.source = source;
+		this.assembler = assembler;
+		this.collectionRel = collectionRel;
+	}
+
+	/**
+	 * Returns the {@link LinkRelation} to render the entities under.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonIgnore
+	public LinkRelation getCollectionRel() {
+		return collectionRel;
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the {@link PersistentEntityResource}s to render. The resources are created lazily
+	 * while iterating, so that they can be discarded right after they have been rendered. Elements can be
+	 * {@literal null} in case the source contains {@literal null} values.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonIgnore
+	public Iterator<PersistentEntityResource> getResources() {
+
+		Iterator<?> iterator = source.iterator();
+
+		return new Iterator<PersistentEntityResource>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Nullable
+			@Override
+			public PersistentEntityResource next() {
+
+				Object element = iterator.next();
+
+				return element == null ? null : assembler.toModel(element);
+			}
+		};
+	}
+}
@@ -26,6 +26,7 @@ import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.ProfileController;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.support.MetadataDocumentCache;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -33,7 +34,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 /**
@@ -48,18 +51,44 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AlpsController {
 
 	private final RepositoryRestConfiguration configuration;
+	private final @Nullable RootResourceInformationToAlpsDescriptorConverter converter;
+	private final @Nullable MetadataDocumentCache documentCache;
 
 	/**
 	 * Creates a new {@link AlpsController} for the given {@link ResourceMappings}.
 	 *
 	 * @param configuration must not be {@literal null}.
 	 */
-	@Autowired
 	public AlpsController(RepositoryRestConfiguration configuration) {
 
 		Assert.notNull(configuration, "MetadataConfiguration must not be null");
 
 		this.configuration = configuration;
+		this.converter = null;
+		this.documentCache = null;
+	}
+
+	/**
+	 * Creates a new {@link AlpsController} for the given {@link RepositoryRestConfiguration} caching the ALPS documents
+	 * created by the given {@link RootResourceInformationToAlpsDescriptorConverter} in the given
+	 * {@link MetadataDocumentCache}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param documentCache must not be {@literal null}.
+	 * @since 4.1
+	 */
+	@Autowired
+	public AlpsController(RepositoryRestConfiguration configuration,
+			RootResourceInformationToAlpsDescriptorConverter converter, MetadataDocumentCache documentCache) {
+
+		Assert.notNull(configuration, "MetadataConfiguration must not be null");
+		Assert.notNull(converter, "RootResourceInformationToAlpsDescriptorConverter must not be null");
+		Assert.notNull(documentCache, "MetadataDocumentCache must not be null");
+
+		this.configuration = configuration;
+		this.converter = converter;
+		this.documentCache = documentCache;
 	}
 
 	/**
@@ -80,18 +109,26 @@ public class AlpsController {
 	}
 
 	/**
-	 * Exposes an ALPS resource to describe an individual repository resource.
+	 * Exposes an ALPS resource to describe an individual repository resource. The document is only created once per
+	 * domain type, base URI and locale and carries a strong ETag so that conditional requests can be answered with
+	 * {@code 304 Not Modified}.
 	 *
 	 * @param information
+	 * @param headers
 	 * @return
 	 */
 	@RequestMapping(value = ProfileController.RESOURCE_PROFILE_MAPPING, method = GET,
 			produces = { MediaType.ALL_VALUE, MediaTypes.ALPS_JSON_VALUE })
-	HttpEntity<RootResourceInformation> descriptor(RootResourceInformation information) {
+	HttpEntity<?> descriptor(RootResourceInformation information, @RequestHeader HttpHeaders headers) {
 
 		verifyAlpsEnabled();
 
-		return new ResponseEntity<>(information, HttpStatus.OK);
+		if (converter == null || documentCache == null) {
+			return new ResponseEntity<>(information, HttpStatus.OK);
+		}
+
+		return documentCache.getDocument(information.getDomainType(), headers,
+				() -> Collections.singletonMap("alps", converter.convert(information)));
 	}
 
 	private void verifyAlpsEnabled() {
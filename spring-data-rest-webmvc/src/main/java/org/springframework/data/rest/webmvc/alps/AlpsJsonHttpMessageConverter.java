@@ -29,15 +29,19 @@ import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 /**
  * {@link HttpMessageConverter} to render {@link Alps} and {@link RootResourceInformation} instances as
- * {@code application/alps+json}.
+ * {@code application/alps+json}. Pre-serialized ALPS documents handed out as {@link RawValue} are only written if
+ * {@code application/alps+json} was selected explicitly so that other {@link RawValue}s are left to the general
+ * purpose JSON converters.
  *
  * @author Oliver Gierke
  * @author Greg Turnquist
@@ -66,7 +70,12 @@ public class AlpsJsonHttpMessageConverter extends MappingJackson2HttpMessageConv
 	}
 
 	@Override
-	public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+	public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+
+		if (RawValue.class.equals(clazz)) {
+			return mediaType != null && MediaTypes.ALPS_JSON.equalsTypeAndSubtype(mediaType);
+		}
+
 		return (clazz.isAssignableFrom(Alps.class) || clazz.isAssignableFrom(RootResourceInformation.class))
 				&& super.canWrite(clazz, mediaType);
 	}
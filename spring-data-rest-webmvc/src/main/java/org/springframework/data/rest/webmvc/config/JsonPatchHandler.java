@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import org.springframework.data.rest.webmvc.IncomingRequest;
@@ -28,6 +29,7 @@ import org.springframework.data.rest.webmvc.util.InputStreamHttpInputMessage;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -47,6 +49,7 @@ class JsonPatchHandler {
 
 	private final BindContextFactory factory;
 	private final DomainObjectReader reader;
+	private final boolean incremental;
 
 	/**
 	 * Creates a new {@link JsonPatchHandler} with the given {@link JacksonBindContextFactory} and
@@ -56,12 +59,27 @@ class JsonPatchHandler {
 	 * @param reader must not be {@literal null}.
 	 */
 	public JsonPatchHandler(BindContextFactory factory, DomainObjectReader reader) {
+		this(factory, reader, false);
+	}
+
+	/**
+	 * Creates a new {@link JsonPatchHandler} with the given {@link JacksonBindContextFactory} and
+	 * {@link DomainObjectReader} applying patches incrementally, i.e. operation by operation and property by property
+	 * while reading the request body, if requested.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param incremental whether to apply patches while reading the request body.
+	 * @since 4.1
+	 */
+	public JsonPatchHandler(BindContextFactory factory, DomainObjectReader reader, boolean incremental) {
 
 		Assert.notNull(factory, "BindContextFactory must not be null!");
 		Assert.notNull(reader, "DomainObjectReader must not be null");
 
 		this.factory = factory;
 		this.reader = reader;
+		this.incremental = incremental;
 	}
 
 	/**
@@ -88,20 +106,48 @@ class JsonPatchHandler {
 	@SuppressWarnings("unchecked")
 	<T> T applyPatch(InputStream source, T target, ObjectMapper mapper) throws Exception {
 
-		Class<?> type = target.getClass();
 		BindContext context = factory.getBindContextFor(mapper);
 
+		if (incremental) {
+			return applyPatchIncrementally(source, target, mapper, context);
+		}
+
 		return getPatchOperations(source, mapper, context).apply(target, (Class<T>) target.getClass());
 	}
 
 	<T> T applyMergePatch(InputStream source, T existingObject, ObjectMapper mapper) throws Exception {
-		return reader.read(source, existingObject, mapper);
+
+		return incremental //
+				? reader.readIncrementally(source, existingObject, mapper) //
+				: reader.read(source, existingObject, mapper);
 	}
 
 	<T> T applyPut(ObjectNode source, T existingObject, ObjectMapper mapper) throws Exception {
 		return reader.readPut(source, existingObject, mapper);
 	}
 
+	/**
+	 * Reads the patch operations from the given source and applies them to the given target one by one.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 * @throws HttpMessageNotReadableException in case the payload can't be read.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T applyPatchIncrementally(InputStream source, T target, ObjectMapper mapper, BindContext context) {
+
+		try (JsonParser parser = mapper.getFactory().createParser(source)) {
+			return new JsonPatchPatchConverter(mapper, context).apply(parser, target, (Class<T>) target.getClass());
+		} catch (IOException | IllegalArgumentException o_O) {
+			throw new HttpMessageNotReadableException(
+					String.format("Could not read PATCH operations; Expected %s", RestMediaTypes.JSON_PATCH_JSON), o_O,
+					InputStreamHttpInputMessage.of(source));
+		}
+	}
+
 	/**
 	 * Returns all {@link JsonPatchOperation}s to be applied.
 	 *
@@ -79,6 +79,29 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
 			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
 			PluginRegistry<EntityLookup<?>, Class<?>> lookups, BindContextFactory factory) {
+		this(messageConverters, resourceInformationResolver, idResolver, reader, lookups, factory, false);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} optionally applying the bodies of
+	 * {@code PATCH} requests incrementally.
+	 *
+	 * @param messageConverters must not be {@literal null}.
+	 * @param resourceInformationResolver must not be {@literal null}.
+	 * @param idResolver must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param applyPatchesIncrementally whether to apply patches while reading the request body.
+	 * @since 4.1
+	 * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setApplyPatchesIncrementally(boolean)
+	 */
+	public PersistentEntityResourceHandlerMethodArgumentResolver(
+			List<HttpMessageConverter<?>> messageConverters,
+			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
+			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
+			PluginRegistry<EntityLookup<?>, Class<?>> lookups, BindContextFactory factory,
+			boolean applyPatchesIncrementally) {
 
 		Assert.notNull(messageConverters, "HttpMessageConverters must not be null");
 		Assert.notNull(resourceInformationResolver, "RootResourceInformation resolver must not be null");
@@ -90,7 +113,8 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		this.resourceInformationResolver = resourceInformationResolver;
 		this.idResolver = idResolver;
 		this.lookups = lookups;
-		this.jsonPatchHandler = new JsonPatchHandler(mapper -> factory.getBindContextFor(mapper), reader);
+		this.jsonPatchHandler = new JsonPatchHandler(mapper -> factory.getBindContextFor(mapper), reader,
+				applyPatchesIncrementally);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
@@ -49,9 +50,13 @@ import com.querydsl.core.types.Predicate;
 class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver
 		extends RootResourceInformationHandlerMethodArgumentResolver {
 
+	private static final int MAX_CACHED_PARAMETERS_PER_TYPE = 256;
+
 	private final Repositories repositories;
 	private final QuerydslPredicateBuilder predicateBuilder;
 	private final QuerydslBindingsFactory factory;
+	private final Map<Class<?>, QuerydslBindings> bindings = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<String, Boolean>> bindableParameters = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver} using the given
@@ -91,14 +96,41 @@ class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver
 	private Optional<Pair<QuerydslPredicateExecutor<?>, Predicate>> getRepositoryAndPredicate(
 			QuerydslPredicateExecutor<?> repository, Class<?> domainType, Map<String, String[]> parameters) {
 
-		ClassTypeInformation<?> type = ClassTypeInformation.from(domainType);
-
-		QuerydslBindings bindings = factory.createBindingsFor(type);
-		Predicate predicate = predicateBuilder.getPredicate(type, toMultiValueMap(parameters), bindings);
+		QuerydslBindings bindings = this.bindings.computeIfAbsent(domainType,
+				it -> factory.createBindingsFor(ClassTypeInformation.from(it)));
+		MultiValueMap<String, String> values = toMultiValueMap(parameters, domainType, bindings);
+		Predicate predicate = predicateBuilder.getPredicate(ClassTypeInformation.from(domainType), values, bindings);
 
 		return Optional.ofNullable(predicate).map(it -> Pair.of(repository, it));
 	}
 
+	/**
+	 * Returns whether the request parameter with the given name can be bound to a path of the given domain type. The
+	 * result is cached per domain type for a bounded number of parameter names as they're controlled by clients.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param bindings must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isBindable(String name, Class<?> domainType, QuerydslBindings bindings) {
+
+		Map<String, Boolean> cache = bindableParameters.computeIfAbsent(domainType, __ -> new ConcurrentHashMap<>());
+		Boolean bindable = cache.get(name);
+
+		if (bindable != null) {
+			return bindable;
+		}
+
+		bindable = bindings.isPathAvailable(name, domainType);
+
+		if (cache.size() < MAX_CACHED_PARAMETERS_PER_TYPE) {
+			cache.put(name, bindable);
+		}
+
+		return bindable;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static RepositoryInvoker getQuerydslAdapter(RepositoryInvoker invoker,
 			QuerydslPredicateExecutor<?> repository, Predicate predicate) {
@@ -106,17 +138,23 @@ class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver
 	}
 
 	/**
-	 * Converts the given Map into a {@link MultiValueMap}.
+	 * Converts the given Map into a {@link MultiValueMap} only containing the parameters that can be bound to a path of
+	 * the given domain type.
 	 *
 	 * @param source must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param bindings must not be {@literal null}.
 	 * @return
 	 */
-	private static MultiValueMap<String, String> toMultiValueMap(Map<String, String[]> source) {
+	private MultiValueMap<String, String> toMultiValueMap(Map<String, String[]> source, Class<?> domainType,
+			QuerydslBindings bindings) {
 
 		MultiValueMap<String, String> result = new LinkedMultiValueMap<String, String>();
 
 		for (Entry<String, String[]> entry : source.entrySet()) {
-			result.put(entry.getKey(), Arrays.asList(entry.getValue()));
+			if (isBindable(entry.getKey(), domainType, bindings)) {
+				result.put(entry.getKey(), Arrays.asList(entry.getValue()));
+			}
 		}
 
 		return result;
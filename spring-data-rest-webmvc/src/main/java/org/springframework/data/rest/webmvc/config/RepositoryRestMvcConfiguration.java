@@ -46,6 +46,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.geo.GeoModule;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.querydsl.QuerydslUtils;
 import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
@@ -81,12 +82,14 @@ import org.springframework.data.rest.webmvc.mapping.LinkCollector;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.ClassGeneratingProjectionFactory;
 import org.springframework.data.rest.webmvc.support.DefaultExcerptProjector;
 import org.springframework.data.rest.webmvc.support.DomainClassResolver;
 import org.springframework.data.rest.webmvc.support.ETagArgumentResolver;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.MetadataDocumentCache;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.util.AnnotatedTypeScanner;
@@ -499,7 +502,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 		return new PersistentEntityResourceHandlerMethodArgumentResolver(defaultMessageConverters,
 				repoRequestArgumentResolver, backendIdHandlerMethodArgumentResolver,
-				reader, lookups, factory);
+				reader, lookups, factory, repositoryRestConfiguration.get().isApplyPatchesIncrementally());
 	}
 
 	/**
@@ -513,9 +516,11 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			@Qualifier("repositoryInvokerFactory") RepositoryInvokerFactory repositoryInvokerFactory,
 			RepositoryRestConfiguration repositoryRestConfiguration) {
 
+		ValueTypeSchemaPropertyCustomizerFactory customizerFactory = new ValueTypeSchemaPropertyCustomizerFactory(
+				repositoryInvokerFactory, repositoryRestConfiguration.getMetadataConfiguration(), repositories.get());
+
 		return new PersistentEntityToJsonSchemaConverter(persistentEntities, associationLinks, resolver.getObject(),
-				objectMapper(),
-				repositoryRestConfiguration, new ValueTypeSchemaPropertyCustomizerFactory(repositoryInvokerFactory));
+				objectMapper(), repositoryRestConfiguration, customizerFactory);
 	}
 
 	/**
@@ -654,7 +659,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			AlpsJsonHttpMessageConverter alpsJsonHttpMessageConverter, SelfLinkProvider selfLinkProvider,
 			PersistentEntityResourceHandlerMethodArgumentResolver persistentEntityArgumentResolver,
 			RootResourceInformationHandlerMethodArgumentResolver repoRequestArgumentResolver,
-			RepositoryRestConfiguration repositoryRestConfiguration) {
+			RepositoryRestConfiguration repositoryRestConfiguration, RepresentationCache representationCache) {
 
 		// Forward conversion service to handler adapter
 		ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
@@ -672,6 +677,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			advices.addAll(Arrays.asList(alpsJsonHttpMessageConverter));
 		}
 
+		if (representationCache.isEnabled()) {
+			advices.add(representationCache);
+		}
+
 		handlerAdapter.setResponseBodyAdvice(advices);
 
 		return handlerAdapter;
@@ -732,10 +741,14 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		EmbeddedResourcesAssembler assembler = new EmbeddedResourcesAssembler(persistentEntities.get(),
 				associationLinks.get(), excerptProjector.get());
 		LookupObjectSerializer lookupObjectSerializer = new LookupObjectSerializer(PluginRegistry.of(getEntityLookups()));
+		CurieProvider curieProvider = this.curieProvider
+				.getIfUnique(() -> new DefaultCurieProvider(Collections.emptyMap()));
 
 		return new PersistentEntityJackson2Module(associationLinks.get(), persistentEntities.get(),
-				new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get()),
-				linkCollector, repositoryInvokerFactory.get(), lookupObjectSerializer, invoker.getObject(), assembler);
+				new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get(),
+						defaultConversionService),
+				linkCollector, repositoryInvokerFactory.get(), lookupObjectSerializer, invoker.getObject(), assembler,
+				curieProvider);
 	}
 
 	@Bean
@@ -752,7 +765,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 		projectionFactory.setBeanFactory(applicationContext);
 
-		return new DefaultExcerptProjector(projectionFactory, resourceMappings);
+		return new DefaultExcerptProjector(potentiallyGenerating(projectionFactory), resourceMappings);
 	}
 
 	@Override
@@ -871,6 +884,50 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new HttpHeadersPreparer(auditableBeanWrapperFactory);
 	}
 
+	/**
+	 * The cache for rendered representations of item resources. Disabled unless
+	 * {@link RepositoryRestConfiguration#setItemResourceCacheSize(long)} is configured.
+	 *
+	 * @param persistentEntities must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 */
+	@Bean
+	public RepresentationCache representationCache(PersistentEntities persistentEntities) {
+		return new RepresentationCache(persistentEntities, repositoryRestConfiguration.get().getItemResourceCacheSize());
+	}
+
+	/**
+	 * The cache for the JSON Schema documents exposed for the repository resources. As the documents enumerate the values
+	 * of lookup types, they expire after {@link MetadataConfiguration#getLookupTypeEnumerationTimeToLive()}.
+	 *
+	 * @return
+	 * @since 4.1
+	 */
+	@Bean
+	public MetadataDocumentCache jsonSchemaDocumentCache() {
+
+		MetadataConfiguration configuration = repositoryRestConfiguration.get().getMetadataConfiguration();
+
+		return new MetadataDocumentCache(basicObjectMapper(), configuration::getCacheControl,
+				configuration::getLookupTypeEnumerationTimeToLive);
+	}
+
+	/**
+	 * The cache for the ALPS documents exposed for the repository resources.
+	 *
+	 * @param alpsJsonHttpMessageConverter must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 */
+	@Bean
+	public MetadataDocumentCache alpsDocumentCache(AlpsJsonHttpMessageConverter alpsJsonHttpMessageConverter) {
+
+		MetadataConfiguration configuration = repositoryRestConfiguration.get().getMetadataConfiguration();
+
+		return new MetadataDocumentCache(alpsJsonHttpMessageConverter.getObjectMapper(), configuration::getCacheControl);
+	}
+
 	@Bean
 	public SelfLinkProvider selfLinkProvider(PersistentEntities persistentEntities, RepositoryEntityLinks entityLinks,
 			@Qualifier("mvcConversionService") ObjectProvider<ConversionService> conversionService) {
@@ -915,7 +972,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				resourceMetadataHandlerMethodArgumentResolver.get(), //
 				HttpMethodHandlerMethodArgumentResolver.INSTANCE, //
 				new PersistentEntityResourceAssemblerArgumentResolver(persistentEntities.get(), selfLinkProvider,
-						repositoryRestConfiguration.get().getProjectionConfiguration(), projectionFactory, associationLinks.get()), //
+						repositoryRestConfiguration.get().getProjectionConfiguration(), potentiallyGenerating(projectionFactory),
+						associationLinks.get()), //
 				backendIdHandlerMethodArgumentResolver.get(), //
 				eTagArgumentResolver.get());
 	}
@@ -951,6 +1009,20 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new EnumTranslator(resolver);
 	}
 
+	/**
+	 * Wraps the given {@link ProjectionFactory} into a {@link ClassGeneratingProjectionFactory} if enabled via
+	 * {@link RepositoryRestConfiguration#setGenerateProjectionImplementations(boolean)}.
+	 *
+	 * @param projectionFactory must not be {@literal null}.
+	 * @return
+	 */
+	private ProjectionFactory potentiallyGenerating(ProjectionFactory projectionFactory) {
+
+		return repositoryRestConfiguration.get().isGenerateProjectionImplementations()
+				? new ClassGeneratingProjectionFactory(projectionFactory)
+				: projectionFactory;
+	}
+
 	private Set<Class<?>> getProjections(Repositories repositories) {
 
 		Set<String> packagesToScan = new HashSet<>();
@@ -18,15 +18,19 @@ package org.springframework.data.rest.webmvc.config;
 import static org.springframework.util.ClassUtils.*;
 import static org.springframework.util.StringUtils.*;
 
+import java.lang.reflect.Method;
+
 import org.springframework.core.MethodParameter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.BaseUri;
 import org.springframework.data.rest.webmvc.util.UriUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -39,6 +43,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  */
 public class ResourceMetadataHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
+	private static final String RESOLVED_METADATA_ATTRIBUTE = ResourceMetadataHandlerMethodArgumentResolver.class
+			.getName() + ".RESOLVED_METADATA";
+
 	private final Repositories repositories;
 	private final ResourceMappings mappings;
 	private final BaseUri baseUri;
@@ -72,20 +79,52 @@ public class ResourceMetadataHandlerMethodArgumentResolver implements HandlerMet
 	public ResourceMetadata resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
+		Method method = parameter.getMethod();
+		Object attribute = webRequest.getAttribute(RESOLVED_METADATA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		// Reuse the metadata already resolved for other parameters of the same handler method
+		if (attribute instanceof ResolvedMetadata && ((ResolvedMetadata) attribute).method.equals(method)) {
+			return ((ResolvedMetadata) attribute).metadata;
+		}
+
+		ResourceMetadata metadata = doResolve(method, webRequest);
+
+		webRequest.setAttribute(RESOLVED_METADATA_ATTRIBUTE, new ResolvedMetadata(method, metadata),
+				RequestAttributes.SCOPE_REQUEST);
+
+		return metadata;
+	}
+
+	@Nullable
+	private ResourceMetadata doResolve(Method method, NativeWebRequest webRequest) {
+
 		String lookupPath = baseUri.getRepositoryLookupPath(webRequest);
-		String repositoryKey = UriUtils.findMappingVariable("repository", parameter.getMethod(), lookupPath);
+		String repositoryKey = UriUtils.findMappingVariable("repository", method, lookupPath);
 
 		if (!hasText(repositoryKey)) {
 			return null;
 		}
 
-		for (Class<?> domainType : repositories) {
-			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
-			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return mapping;
-			}
-		}
+		return mappings.getExportedMetadataForPath(repositoryKey) //
+				.filter(it -> repositories.hasRepositoryFor(it.getDomainType())) //
+				.orElseThrow(() -> new IllegalArgumentException(
+						String.format("Could not resolve repository metadata for %s.", repositoryKey)));
+	}
 
-		throw new IllegalArgumentException(String.format("Could not resolve repository metadata for %s.", repositoryKey));
+	/**
+	 * The {@link ResourceMetadata} resolved for a handler method within the current request.
+	 *
+	 * @since 4.1
+	 */
+	private static class ResolvedMetadata {
+
+		private final Method method;
+		private final @Nullable ResourceMetadata metadata;
+
+		ResolvedMetadata(Method method, @Nullable ResourceMetadata metadata) {
+
+			this.method = method;
+			this.metadata = metadata;
+		}
 	}
 }
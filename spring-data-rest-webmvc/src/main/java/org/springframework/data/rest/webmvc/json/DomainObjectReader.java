@@ -46,6 +46,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -98,6 +100,53 @@ public class DomainObjectReader {
 		}
 	}
 
+	/**
+	 * Reads the given input stream property by property and applies each top-level property to the given existing
+	 * instance right away. In contrast to {@link #read(InputStream, Object, ObjectMapper)}, only the value of the
+	 * currently processed property is held in memory as tree, not the entire document.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 * @since 4.1
+	 */
+	public <T> T readIncrementally(InputStream source, T target, ObjectMapper mapper) {
+
+		Assert.notNull(target, "Target object must not be null");
+		Assert.notNull(source, "InputStream must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		try (JsonParser parser = mapper.getFactory().createParser(source)) {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalArgumentException("Payload must be a JSON object");
+			}
+
+			T result = target;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String fieldName = parser.currentName();
+				parser.nextToken();
+
+				ObjectNode node = mapper.createObjectNode();
+				node.set(fieldName, mapper.readTree(parser));
+
+				result = doMerge(node, result, mapper);
+			}
+
+			if (parser.currentToken() != JsonToken.END_OBJECT) {
+				throw new IllegalArgumentException("Unexpected end of payload");
+			}
+
+			return result;
+
+		} catch (Exception o_O) {
+			throw new HttpMessageNotReadableException("Could not read payload", o_O, InputStreamHttpInputMessage.of(source));
+		}
+	}
+
 	/**
 	 * Reads the given source node onto the given target object and applies PUT semantics, i.e. explicitly
 	 *
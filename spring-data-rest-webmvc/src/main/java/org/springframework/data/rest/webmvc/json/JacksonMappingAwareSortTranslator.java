@@ -18,7 +18,9 @@ package org.springframework.data.rest.webmvc.json;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +33,7 @@ import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.DomainClassResolver;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -113,10 +116,12 @@ public class JacksonMappingAwareSortTranslator {
 		private static final String ALL_UPPERCASE = "[A-Z0-9._$]+";
 
 		private static final Pattern SPLITTER = Pattern.compile("(?:[%s]?([%s]*?[^%s]+))".replaceAll("%s", DELIMITERS));
+		private static final int MAX_CACHED_PATHS_PER_TYPE = 256;
 
 		private final PersistentEntities entities;
 		private final ObjectMapper objectMapper;
 		private final Associations associations;
+		private final Map<Class<?>, Map<String, Optional<String>>> mappedPropertyPaths = new ConcurrentHashMap<>();
 
 		public SortTranslator(PersistentEntities entities, ObjectMapper objectMapper, Associations associations) {
 
@@ -131,7 +136,8 @@ public class JacksonMappingAwareSortTranslator {
 
 		/**
 		 * Translates {@link Sort} orders from Jackson-mapped field names to {@link PersistentProperty} names. Properties
-		 * that cannot be resolved are dropped.
+		 * that cannot be resolved are dropped. Translations, including the ones dropping a property, are cached per root
+		 * entity for a bounded number of properties as those are controlled by clients.
 		 *
 		 * @param input must not be {@literal null}.
 		 * @param rootEntity must not be {@literal null}.
@@ -144,25 +150,41 @@ public class JacksonMappingAwareSortTranslator {
 
 			List<Order> filteredOrders = new ArrayList<Order>();
 
+			Map<String, Optional<String>> cache = mappedPropertyPaths.computeIfAbsent(rootEntity.getType(),
+					__ -> new ConcurrentHashMap<>());
+
 			for (Order order : input) {
 
-				List<String> iteratorSource = new ArrayList<String>();
-				Matcher matcher = SPLITTER.matcher("_" + order.getProperty());
+				Optional<String> mappedPropertyPath = cache.get(order.getProperty());
 
-				while (matcher.find()) {
-					iteratorSource.add(matcher.group(1));
-				}
+				if (mappedPropertyPath == null) {
 
-				String mappedPropertyPath = getMappedPropertyPath(rootEntity, iteratorSource);
+					mappedPropertyPath = Optional.ofNullable(getMappedPropertyPath(rootEntity, order.getProperty()));
 
-				if (mappedPropertyPath != null) {
-					filteredOrders.add(order.withProperty(mappedPropertyPath));
+					if (cache.size() < MAX_CACHED_PATHS_PER_TYPE) {
+						cache.put(order.getProperty(), mappedPropertyPath);
+					}
 				}
+
+				mappedPropertyPath.ifPresent(it -> filteredOrders.add(order.withProperty(it)));
 			}
 
 			return filteredOrders.isEmpty() ? Sort.unsorted() : Sort.by(filteredOrders);
 		}
 
+		@Nullable
+		private String getMappedPropertyPath(PersistentEntity<?, ?> rootEntity, String property) {
+
+			List<String> iteratorSource = new ArrayList<String>();
+			Matcher matcher = SPLITTER.matcher("_" + property);
+
+			while (matcher.find()) {
+				iteratorSource.add(matcher.group(1));
+			}
+
+			return getMappedPropertyPath(rootEntity, iteratorSource);
+		}
+
 		private String getMappedPropertyPath(PersistentEntity<?, ?> rootEntity, List<String> iteratorSource) {
 
 			List<String> persistentPropertyPath = mapPropertyPath(rootEntity, iteratorSource);
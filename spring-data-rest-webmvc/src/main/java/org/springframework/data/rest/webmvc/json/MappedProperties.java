@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,6 +29,7 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -47,6 +49,9 @@ import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
  */
 class MappedProperties {
 
+	private static final Map<CacheKey, MappedProperties> SERIALIZATION_CACHE = new ConcurrentReferenceHashMap<>(64);
+	private static final Map<CacheKey, MappedProperties> DESERIALIZATION_CACHE = new ConcurrentReferenceHashMap<>(64);
+
 	private final Map<PersistentProperty<?>, BeanPropertyDefinition> propertyToFieldName;
 	private final Map<String, PersistentProperty<?>> fieldNameToProperty;
 	private final Set<BeanPropertyDefinition> unmappedProperties;
@@ -126,6 +131,15 @@ class MappedProperties {
 	 */
 	public static MappedProperties forDeserialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		return DESERIALIZATION_CACHE.computeIfAbsent(CacheKey.of(entity, mapper),
+				key -> createForDeserialization(key.entity, key.mapper));
+	}
+
+	private static MappedProperties createForDeserialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
 		DeserializationConfig config = mapper.getDeserializationConfig();
 		ClassIntrospector introspector = config.getClassIntrospector();
 		BeanDescription description = introspector.forDeserialization(config, mapper.constructType(entity.getType()),
@@ -144,6 +158,15 @@ class MappedProperties {
 	 */
 	public static MappedProperties forSerialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		return SERIALIZATION_CACHE.computeIfAbsent(CacheKey.of(entity, mapper),
+				key -> createForSerialization(key.entity, key.mapper));
+	}
+
+	private static MappedProperties createForSerialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
 		SerializationConfig config = mapper.getSerializationConfig();
 		ClassIntrospector introspector = config.getClassIntrospector();
 		BeanDescription description = introspector.forSerialization(config, mapper.constructType(entity.getType()), config);
@@ -276,4 +299,45 @@ class MappedProperties {
 
 		return property != null ? property.isWritable() : anySetterFound;
 	}
+
+	/**
+	 * Cache key to look up {@link MappedProperties} for a {@link PersistentEntity} and the {@link ObjectMapper} it was
+	 * introspected with. Both are compared by identity as neither of them overrides {@link Object#equals(Object)}.
+	 */
+	private static final class CacheKey {
+
+		private final PersistentEntity<?, ?> entity;
+		private final ObjectMapper mapper;
+
+		private CacheKey(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
+			this.entity = entity;
+			this.mapper = mapper;
+		}
+
+		static CacheKey of(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+			return new CacheKey(entity, mapper);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (o == this) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) o;
+
+			return entity == that.entity && mapper == that.mapper;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(entity), System.identityHashCode(mapper));
+		}
+	}
 }
@@ -20,11 +20,14 @@ import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,25 +48,33 @@ import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.StreamingCollectionModel;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
 import org.springframework.data.util.CastUtils;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.DefaultCurieProvider;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
@@ -82,11 +93,15 @@ import com.fasterxml.jackson.databind.deser.std.CollectionDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
@@ -126,15 +141,42 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			LookupObjectSerializer lookupObjectSerializer, RepresentationModelProcessorInvoker invoker,
 			EmbeddedResourcesAssembler assembler) {
 
+		this(associations, entities, converter, collector, factory, lookupObjectSerializer, invoker, assembler,
+				new DefaultCurieProvider(Collections.emptyMap()));
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityJackson2Module} using the given {@link ResourceMappings}, {@link Repositories}
+	 * , {@link RepositoryRestConfiguration}, {@link UriToEntityConverter}, {@link SelfLinkProvider} and
+	 * {@link CurieProvider}.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param collector must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param lookupObjectSerializer must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param curieProvider must not be {@literal null}.
+	 * @since 4.1
+	 */
+	public PersistentEntityJackson2Module(Associations associations, PersistentEntities entities,
+			UriToEntityConverter converter, LinkCollector collector, RepositoryInvokerFactory factory,
+			LookupObjectSerializer lookupObjectSerializer, RepresentationModelProcessorInvoker invoker,
+			EmbeddedResourcesAssembler assembler, CurieProvider curieProvider) {
+
 		super("persistent-entity-resource", new Version(2, 0, 0, null, "org.springframework.data.rest", "jackson-module"));
 
 		Assert.notNull(associations, "AssociationLinks must not be null");
 		Assert.notNull(entities, "Repositories must not be null");
 		Assert.notNull(converter, "UriToEntityConverter must not be null");
 		Assert.notNull(collector, "LinkCollector must not be null");
+		Assert.notNull(curieProvider, "CurieProvider must not be null");
 
 		NestedEntitySerializer serializer = new NestedEntitySerializer(entities, assembler, invoker);
 		addSerializer(new PersistentEntityResourceSerializer(collector));
+		addSerializer(new StreamingCollectionModelSerializer(curieProvider, invoker));
 		addSerializer(new ProjectionSerializer(collector, associations, invoker, false));
 		addSerializer(new ProjectionResourceContentSerializer(false));
 
@@ -145,23 +187,26 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	}
 
 	/**
-	 * Custom {@link JsonSerializer} for {@link PersistentEntityResource}s to turn associations into {@link Link}s.
-	 * Delegates to standard {@link EntityModel} serialization afterwards.
+	 * Custom {@link JsonSerializer} for {@link PersistentEntityResource}s to turn associations into {@link Link}s. Writes
+	 * the content, the embedded resources and the links directly, using the property order and serializers Jackson
+	 * resolves for {@link EmbeddedAwareEntityModel} so that the output is the same as the one of the standard
+	 * {@link EntityModel} serialization.
 	 *
 	 * @author Oliver Gierke
 	 */
 	@SuppressWarnings("serial")
-	private static class PersistentEntityResourceSerializer extends StdSerializer<PersistentEntityResource> {
+	static class PersistentEntityResourceSerializer extends StdSerializer<PersistentEntityResource> {
 
 		private final LinkCollector collector;
+		private final Map<JsonSerializer<Object>, ModelSerializers> serializers = new ConcurrentReferenceHashMap<>(16,
+				ReferenceType.WEAK);
 
 		/**
-		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link PersistentEntities} and
-		 * {@link Associations}.
+		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link LinkCollector}.
 		 *
-		 * @param entities must not be {@literal null}.
+		 * @param collector must not be {@literal null}.
 		 */
-		private PersistentEntityResourceSerializer(LinkCollector collector) {
+		PersistentEntityResourceSerializer(LinkCollector collector) {
 
 			super(PersistentEntityResource.class);
 
@@ -175,8 +220,9 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			LOG.debug("Serializing PersistentEntity {}", resource.getPersistentEntity());
 
 			Object content = resource.getContent();
+			ModelSerializers serializers = getSerializers(provider);
 
-			if (hasScalarSerializer(content, provider)) {
+			if (serializers.hasScalarSerializer(content.getClass(), provider)) {
 				provider.defaultSerializeValue(content, jgen);
 				return;
 			}
@@ -190,16 +236,12 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				return;
 			}
 
-			@SuppressWarnings("deprecation")
-			EntityModel<Object> resourceToRender = new EntityModel<Object>(resource.getContent(), links) {
-
-				@JsonUnwrapped
-				public Iterable<?> getEmbedded() {
-					return resource.getEmbeddeds();
-				}
-			};
+			if (provider.getActiveView() != null || !serializers.canWriteModel()) {
+				provider.defaultSerializeValue(new EmbeddedAwareEntityModel(content, links, resource.getEmbeddeds()), jgen);
+				return;
+			}
 
-			provider.defaultSerializeValue(resourceToRender, jgen);
+			serializers.writeModel(content, links, resource.getEmbeddeds(), jgen, provider);
 		}
 
 		private Links getLinks(PersistentEntityResource resource) {
@@ -214,10 +256,325 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			return TargetAware.class.isInstance(object) ? ((TargetAware) object).getTarget() : object;
 		}
 
-		private static boolean hasScalarSerializer(Object source, SerializerProvider provider) throws JsonMappingException {
+		/**
+		 * Returns the {@link ModelSerializers} for the serializer the given {@link SerializerProvider} resolves for
+		 * {@link EmbeddedAwareEntityModel}. As that one is cached per {@link com.fasterxml.jackson.databind.ObjectMapper},
+		 * {@link com.fasterxml.jackson.databind.ObjectWriter}s derived from the same mapper share the
+		 * {@link ModelSerializers} while mappers registering different serializers for a type don't.
+		 *
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 * @throws JsonMappingException
+		 */
+		private ModelSerializers getSerializers(SerializerProvider provider) throws JsonMappingException {
+
+			JsonSerializer<Object> serializer = provider.findValueSerializer(EmbeddedAwareEntityModel.class);
+			ModelSerializers result = serializers.get(serializer);
+
+			if (result == null) {
+
+				result = new ModelSerializers(serializer, provider);
+				serializers.put(serializer, result);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * The serializers resolved to render {@link PersistentEntityResource}s with a particular serializer for
+	 * {@link EmbeddedAwareEntityModel}.
+	 *
+	 * @since 4.1
+	 */
+	private static class ModelSerializers {
+
+		private static final String CONTENT_METHOD = "getContent";
+		private static final String EMBEDDED_METHOD = "getEmbedded";
+		private static final String LINKS_METHOD = "getLinks";
+		private static final List<String> MODEL_METHODS = List.of(CONTENT_METHOD, EMBEDDED_METHOD, LINKS_METHOD);
+
+		private final Map<Class<?>, Boolean> scalarTypes = new ConcurrentReferenceHashMap<>();
+		private final Map<Class<?>, JsonSerializer<Object>> contentSerializers = new ConcurrentReferenceHashMap<>();
+		private final Map<Class<?>, JsonSerializer<Object>> embeddedSerializers = new ConcurrentReferenceHashMap<>();
+		private final List<BeanPropertyWriter> properties;
+		private final Set<BeanPropertyWriter> suppressingEmpty;
+
+		/**
+		 * Creates a new {@link ModelSerializers} for the given serializer of {@link EmbeddedAwareEntityModel} and
+		 * {@link SerializerProvider}. Looks up the properties of the model in the order they're rendered in. In case the
+		 * serializer is filtered, contains any other properties than the content, the embedded resources and the links or
+		 * any of them is customized in a way we can't reproduce (e.g. a dedicated serializer for the content, type
+		 * information or a prefix for the unwrapped properties), we fall back to rendering the model.
+		 *
+		 * @param serializer must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 */
+		ModelSerializers(JsonSerializer<Object> serializer, SerializerProvider provider) {
+
+			SerializationConfig config = provider.getConfig();
+			List<BeanPropertyWriter> properties = new ArrayList<>();
+			Set<BeanPropertyWriter> suppressingEmpty = new HashSet<>();
+
+			Object filterId = provider.getAnnotationIntrospector()
+					.findFilterId(config.introspectClassAnnotations(EmbeddedAwareEntityModel.class).getClassInfo());
+
+			Iterator<PropertyWriter> writers = serializer instanceof BeanSerializerBase && filterId == null
+					? ((BeanSerializerBase) serializer).properties()
+					: Collections.emptyIterator();
+
+			while (writers.hasNext()) {
+
+				PropertyWriter writer = writers.next();
+
+				if (!(writer instanceof BeanPropertyWriter) || !isSupported((BeanPropertyWriter) writer)) {
+					properties.clear();
+					break;
+				}
+
+				Include inclusion = writer.findPropertyInclusion(config, EmbeddedAwareEntityModel.class).getValueInclusion();
+
+				if (inclusion == Include.NON_DEFAULT || inclusion == Include.CUSTOM) {
+					properties.clear();
+					break;
+				}
+
+				if (inclusion == Include.NON_EMPTY) {
+					suppressingEmpty.add((BeanPropertyWriter) writer);
+				}
+
+				properties.add((BeanPropertyWriter) writer);
+			}
+
+			this.properties = properties;
+			this.suppressingEmpty = suppressingEmpty;
+		}
+
+		/**
+		 * Returns whether we can write the given property of {@link EmbeddedAwareEntityModel} ourselves, i.e. whether it's
+		 * one of the content, the embedded resources or the links and the content and embedded resources are unwrapped
+		 * using the serializers for their runtime types.
+		 *
+		 * @param writer must not be {@literal null}.
+		 * @return
+		 */
+		private static boolean isSupported(BeanPropertyWriter writer) {
+
+			String name = writer.getMember().getName();
+
+			if (!MODEL_METHODS.contains(name) || writer.getTypeSerializer() != null) {
+				return false;
+			}
+
+			if (name.equals(LINKS_METHOD)) {
+				return true;
+			}
+
+			JsonUnwrapped unwrapped = writer.getAnnotation(JsonUnwrapped.class);
+
+			return writer instanceof UnwrappingBeanPropertyWriter //
+					&& !writer.hasSerializer() //
+					&& unwrapped != null //
+					&& unwrapped.prefix().isEmpty() //
+					&& unwrapped.suffix().isEmpty();
+		}
+
+		/**
+		 * Returns whether the given type is rendered using a scalar serializer.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 * @throws JsonMappingException
+		 */
+		boolean hasScalarSerializer(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+
+			Boolean result = scalarTypes.get(type);
+
+			if (result == null) {
+
+				JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+
+				result = serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer;
+				scalarTypes.put(type, result);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns whether the model can be written directly, i.e. whether the properties of
+		 * {@link EmbeddedAwareEntityModel} could be resolved and are not customized.
+		 *
+		 * @return
+		 */
+		boolean canWriteModel() {
+			return !properties.isEmpty();
+		}
+
+		/**
+		 * Writes the given content, {@link Links} and embedded resources the same way the serializer for an
+		 * {@link EmbeddedAwareEntityModel} would, but without creating one.
+		 *
+		 * @param content must not be {@literal null}.
+		 * @param links must not be {@literal null}.
+		 * @param embedded must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		void writeModel(Object content, Links links, Iterable<?> embedded, JsonGenerator jgen,
+				SerializerProvider provider) throws IOException {
+
+			jgen.writeStartObject(content);
+
+			for (BeanPropertyWriter property : properties) {
+
+				switch (property.getMember().getName()) {
+
+					case CONTENT_METHOD:
+						writeUnwrapped(property, content, contentSerializers, jgen, provider);
+						break;
+
+					case EMBEDDED_METHOD:
+						writeUnwrapped(property, embedded, embeddedSerializers, jgen, provider);
+						break;
+
+					default:
+						writeLinks(property, links, jgen, provider);
+				}
+			}
+
+			jgen.writeEndObject();
+		}
+
+		// Mirrors UnwrappingBeanPropertyWriter but caches the contextual serializer per runtime type
+		private void writeUnwrapped(BeanPropertyWriter property, Object value,
+				Map<Class<?>, JsonSerializer<Object>> serializers, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			Class<?> type = value.getClass();
+			JsonSerializer<Object> serializer = serializers.get(type);
+
+			if (serializer == null) {
+
+				serializer = provider.findValueSerializer(type, property).unwrappingSerializer(NameTransformer.NOP);
+				serializers.put(type, serializer);
+			}
+
+			if (suppressingEmpty.contains(property) && serializer.isEmpty(provider, value)) {
+				return;
+			}
+
+			// Non-unwrapping serializers, e.g. for collections, are rendered as regular property
+			if (!serializer.isUnwrappingSerializer()) {
+				jgen.writeFieldName(property.getName());
+			}
+
+			serializer.serialize(value, jgen, provider);
+		}
+
+		private void writeLinks(BeanPropertyWriter property, Links links, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			JsonSerializer<Object> serializer = property.hasSerializer() //
+					? property.getSerializer()
+					: provider.findValueSerializer(property.getType(), property);
+
+			if (suppressingEmpty.contains(property) && serializer.isEmpty(provider, links)) {
+				return;
+			}
+
+			jgen.writeFieldName(property.getName());
+			serializer.serialize(links, jgen, provider);
+		}
+	}
+
+	/**
+	 * {@link EntityModel} to additionally render the embedded resources of a {@link PersistentEntityResource} in an
+	 * unwrapped fashion. Used by {@link PersistentEntityResourceSerializer} to look up the order and serializers of the
+	 * properties to render.
+	 */
+	static class EmbeddedAwareEntityModel extends EntityModel<Object> {
+
+		private final Iterable<?> embedded;
+
+		@SuppressWarnings("deprecation")
+		EmbeddedAwareEntityModel(Object content, Links links, Iterable<?> embedded) {
+
+			super(content, links);
+
+			this.embedded = embedded;
+		}
+
+		@JsonUnwrapped
+		public Iterable<?> getEmbedded() {
+			return embedded;
+		}
+	}
+
+	/**
+	 * Custom {@link JsonSerializer} for {@link StreamingCollectionModel}s that writes each {@link PersistentEntityResource}
+	 * into the {@code _embedded} collection as soon as it has been created and renders the remaining parts of the model
+	 * using the standard {@link CollectionModel} serialization.
+	 *
+	 * @since 4.1
+	 */
+	@SuppressWarnings("serial")
+	private static class StreamingCollectionModelSerializer extends StdSerializer<StreamingCollectionModel> {
+
+		private static final String EMBEDDED = "_embedded";
+
+		private final CurieProvider curieProvider;
+		private final RepresentationModelProcessorInvoker invoker;
+
+		/**
+		 * Creates a new {@link StreamingCollectionModelSerializer} for the given {@link CurieProvider} and
+		 * {@link RepresentationModelProcessorInvoker}.
+		 *
+		 * @param curieProvider must not be {@literal null}.
+		 * @param invoker must not be {@literal null}.
+		 */
+		private StreamingCollectionModelSerializer(CurieProvider curieProvider,
+				RepresentationModelProcessorInvoker invoker) {
+
+			super(StreamingCollectionModel.class);
+
+			this.curieProvider = curieProvider;
+			this.invoker = invoker;
+		}
+
+		@Override
+		public void serialize(StreamingCollectionModel model, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			jgen.writeStartObject();
+			jgen.writeObjectFieldStart(EMBEDDED);
+			jgen.writeArrayFieldStart(curieProvider.getNamespacedRelFor(model.getCollectionRel()).value());
+
+			Iterator<PersistentEntityResource> resources = model.getResources();
+
+			while (resources.hasNext()) {
+
+				PersistentEntityResource resource = resources.next();
 
-			JsonSerializer<Object> serializer = provider.findValueSerializer(source.getClass());
-			return serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer;
+				if (resource == null) {
+					jgen.writeNull();
+					continue;
+				}
+
+				EntityModel<Object> processed = invoker.invokeProcessorsFor(resource);
+				provider.defaultSerializeValue(processed, jgen);
+			}
+
+			jgen.writeEndArray();
+			jgen.writeEndObject();
+
+			provider.findValueSerializer(CollectionModel.class) //
+					.unwrappingSerializer(NameTransformer.NOP) //
+					.serialize(CollectionModel.empty(model.getLinks()), jgen, provider);
+
+			jgen.writeEndObject();
 		}
 	}
 
@@ -470,6 +827,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					UriStringDeserializer uriStringDeserializer = new UriStringDeserializer(actualPropertyType, converter);
 					JsonDeserializer<?> deserializer = wrapIfCollection(propertyType, uriStringDeserializer, config);
 
+					if (propertyType.isCollectionLike()) {
+						deserializer = new UriCollectionDeserializer(propertyType, converter, deserializer);
+					}
+
 					customizer.replacePropertyIfNeeded(builder, property.withValueDeserializer(deserializer));
 				}
 			});
@@ -623,6 +984,94 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Custom {@link JsonDeserializer} for collections of URIs pointing to entities that collects all URIs of the array
+	 * first and resolves them in one go using {@link UriToEntityConverter#convertAll(List, TypeDescriptor)} to avoid
+	 * looking up each entity individually.
+	 *
+	 * @since 4.1
+	 */
+	static class UriCollectionDeserializer extends StdDeserializer<Object> {
+
+		private static final long serialVersionUID = 4503262658164960478L;
+		private static final String UNEXPECTED_VALUE = "Expected URI cause property %s points to the managed domain type";
+
+		private final TypeInformation<?> property;
+		private final TypeDescriptor elementType;
+		private final UriToEntityConverter converter;
+		private final JsonDeserializer<?> fallback;
+
+		/**
+		 * Creates a new {@link UriCollectionDeserializer} for the given collection property, {@link UriToEntityConverter}
+		 * and fallback {@link JsonDeserializer} to be used for non-array values.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param fallback must not be {@literal null}.
+		 */
+		UriCollectionDeserializer(TypeInformation<?> property, UriToEntityConverter converter,
+				JsonDeserializer<?> fallback) {
+
+			super(property.getType());
+
+			Assert.isTrue(property.isCollectionLike(), "Property must be a collection");
+			Assert.notNull(converter, "UriToEntityConverter must not be null");
+			Assert.notNull(fallback, "Fallback JsonDeserializer must not be null");
+
+			this.property = property;
+			this.elementType = TypeDescriptor.valueOf(property.getRequiredActualType().getType());
+			this.converter = converter;
+			this.fallback = fallback;
+		}
+
+		@Override
+		public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+			if (!p.isExpectedStartArrayToken()) {
+				return fallback.deserialize(p, ctxt);
+			}
+
+			Class<?> type = elementType.getType();
+			List<URI> uris = new ArrayList<>();
+
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+
+				if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NULL) {
+					throw MismatchedInputException.from(p, URI.class, String.format(UNEXPECTED_VALUE, type));
+				}
+
+				String source = token == JsonToken.VALUE_NULL ? null : p.getText();
+
+				if (!StringUtils.hasText(source)) {
+					uris.add(null);
+					continue;
+				}
+
+				try {
+					uris.add(UriTemplate.of(source).expand());
+				} catch (IllegalArgumentException o_O) {
+					throw ctxt.weirdStringException(source, URI.class, String.format(UNEXPECTED_VALUE, type));
+				}
+			}
+
+			Collection<Object> result = CollectionFactory.createCollection(property.getType(), type, uris.size());
+
+			try {
+				result.addAll(converter.convertAll(uris, elementType));
+			} catch (IllegalArgumentException o_O) {
+				throw JsonMappingException.from(p, String.format(UNEXPECTED_VALUE, type), o_O);
+			}
+
+			return result;
+		}
+
+		@Override
+		public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+				throws IOException {
+			return deserialize(p, ctxt);
+		}
+	}
+
 	@SuppressWarnings("serial")
 	static class ProjectionSerializer extends StdSerializer<TargetAware> {
 
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.rest.webmvc.json;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,8 +25,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.springframework.context.MessageSource;
@@ -32,12 +37,17 @@ import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.config.JsonSchemaFormat;
+import org.springframework.data.rest.core.config.MetadataConfiguration;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceDescription;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
@@ -53,7 +63,9 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.Optionals;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -311,15 +323,45 @@ public class PersistentEntityToJsonSchemaConverter implements ConditionalGeneric
 		}
 	}
 
+	/**
+	 * Creates {@link JsonSchemaPropertyCustomizer}s describing properties referring to lookup types as enumeration of the
+	 * values available for the lookup type. The values are read in a bounded way and cached for the time to live
+	 * configured in {@link MetadataConfiguration}. Lookup types with more values than the configured limit are described
+	 * as plain strings. If the repository of the lookup type declares a {@code Slice<T> findAllBy(Pageable)} query
+	 * method, the values are read through that to avoid a count query.
+	 */
 	public static class ValueTypeSchemaPropertyCustomizerFactory {
 
+		private static final String FIND_ALL_BY = "findAllBy";
+
 		private final RepositoryInvokerFactory factory;
+		private final MetadataConfiguration configuration;
+		private final Repositories repositories;
+		private final Map<Class<?>, LookupTypeValues> values = new ConcurrentHashMap<>();
 
 		public ValueTypeSchemaPropertyCustomizerFactory(RepositoryInvokerFactory factory) {
+			this(factory, new MetadataConfiguration(), Repositories.NONE);
+		}
+
+		/**
+		 * Creates a new {@link ValueTypeSchemaPropertyCustomizerFactory} for the given {@link RepositoryInvokerFactory},
+		 * {@link MetadataConfiguration} and {@link Repositories}.
+		 *
+		 * @param factory must not be {@literal null}.
+		 * @param configuration must not be {@literal null}.
+		 * @param repositories must not be {@literal null}.
+		 * @since 4.1
+		 */
+		public ValueTypeSchemaPropertyCustomizerFactory(RepositoryInvokerFactory factory,
+				MetadataConfiguration configuration, Repositories repositories) {
 
 			Assert.notNull(factory, "RepositoryInvokerFactory must not be null");
+			Assert.notNull(configuration, "MetadataConfiguration must not be null");
+			Assert.notNull(repositories, "Repositories must not be null");
 
 			this.factory = factory;
+			this.configuration = configuration;
+			this.repositories = repositories;
 		}
 
 		public JsonSchemaPropertyCustomizer getCustomizerFor(final Class<?> type) {
@@ -329,17 +371,106 @@ public class PersistentEntityToJsonSchemaConverter implements ConditionalGeneric
 				@Override
 				public JsonSchemaProperty customize(JsonSchemaProperty property, TypeInformation<?> type) {
 
-					List<String> result = new ArrayList<String>();
+					List<String> result = getValues(type.getType());
 
-					for (Object element : factory.getInvokerFor(type.getType()).invokeFindAll((Sort) null)) {
-						result.add(element.toString());
-					}
+					return result == null //
+							? property.with(STRING_TYPE_INFORMATION) //
+							: new EnumProperty(property.getName(), property.getTitle(), result, property.description, true);
+				}
+			};
+		}
+
+		/**
+		 * Returns the sorted {@link String} representations of all values of the given lookup type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return {@literal null} in case the lookup type has more values than configured to be enumerated.
+		 */
+		@Nullable
+		private List<String> getValues(Class<?> type) {
+
+			LookupTypeValues cached = values.get(type);
+
+			if (cached != null && !cached.isExpired()) {
+				return cached.values;
+			}
 
-					Collections.sort(result);
+			int limit = configuration.getLookupTypeEnumerationLimit();
+			List<String> result = limit == 0 ? null : new ArrayList<String>();
 
-					return new EnumProperty(property.getName(), property.getTitle(), result, property.description, true);
+			if (result != null) {
+
+				for (Object element : findAll(type, PageRequest.of(0, limit + 1))) {
+
+					if (result.size() == limit) {
+						result = null;
+						break;
+					}
+
+					result.add(element.toString());
 				}
-			};
+			}
+
+			if (result != null) {
+				Collections.sort(result);
+			}
+
+			Duration timeToLive = configuration.getLookupTypeEnumerationTimeToLive();
+
+			if (!timeToLive.isZero()) {
+				values.put(type, new LookupTypeValues(result, Instant.now().plus(timeToLive)));
+			}
+
+			return result;
+		}
+
+		/**
+		 * Reads the given page of values of the given lookup type, preferring a {@code Slice<T> findAllBy(Pageable)}
+		 * query method over {@link RepositoryInvoker#invokeFindAll(Pageable)} as the latter issues a count query for
+		 * paging repositories.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param pageable must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		private Iterable<?> findAll(Class<?> type, Pageable pageable) {
+
+			RepositoryInvoker invoker = factory.getInvokerFor(type);
+			Optional<Method> method = repositories.getRepositoryInformationFor(type) //
+					.flatMap(it -> it.getQueryMethods().stream() //
+							.filter(ValueTypeSchemaPropertyCustomizerFactory::isSliceFindAllBy) //
+							.findFirst());
+
+			if (!method.isPresent()) {
+				return invoker.invokeFindAll(pageable);
+			}
+
+			return invoker.invokeQueryMethod(method.get(), new LinkedMultiValueMap<>(), pageable, pageable.getSort()) //
+					.map(Iterable.class::cast) //
+					.orElseGet(Collections::emptyList);
+		}
+
+		private static boolean isSliceFindAllBy(Method method) {
+
+			return FIND_ALL_BY.equals(method.getName()) //
+					&& Slice.class.equals(method.getReturnType()) //
+					&& Arrays.equals(method.getParameterTypes(), new Class<?>[] { Pageable.class });
+		}
+
+		private static class LookupTypeValues {
+
+			private final @Nullable List<String> values;
+			private final Instant expiry;
+
+			LookupTypeValues(@Nullable List<String> values, Instant expiry) {
+
+				this.values = values;
+				this.expiry = expiry;
+			}
+
+			boolean isExpired() {
+				return Instant.now().isAfter(expiry);
+			}
 		}
 	}
 
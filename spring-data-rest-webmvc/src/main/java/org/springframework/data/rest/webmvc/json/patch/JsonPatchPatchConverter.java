@@ -15,12 +15,15 @@
  */
 package org.springframework.data.rest.webmvc.json.patch;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -62,34 +65,71 @@ public class JsonPatchPatchConverter implements PatchConverter<JsonNode> {
 		List<PatchOperation> ops = new ArrayList<PatchOperation>(opNodes.size());
 
 		for (Iterator<JsonNode> elements = opNodes.elements(); elements.hasNext();) {
+			ops.add(toOperation(elements.next()));
+		}
+
+		return new Patch(ops, context);
+	}
+
+	/**
+	 * Reads the JSON Patch operations from the given {@link JsonParser} one by one and applies each of them to the given
+	 * target object right away. Only the currently processed operation is held in memory, not the entire document.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the patched target object.
+	 * @throws IOException in case the operations cannot be read from the given {@link JsonParser}.
+	 * @since 4.1
+	 */
+	public <T> T apply(JsonParser parser, T target, Class<T> type) throws IOException {
+
+		Assert.notNull(parser, "JsonParser must not be null");
+		Assert.notNull(target, "Target must not be null");
+		Assert.notNull(type, "Type must not be null");
+
+		JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
 
-			JsonNode opNode = elements.next();
-
-			String opType = opNode.get("op").textValue();
-			String path = opNode.get("path").textValue();
-
-			JsonNode valueNode = opNode.get("value");
-			Object value = valueFromJsonNode(path, valueNode);
-			String from = opNode.has("from") ? opNode.get("from").textValue() : null;
-
-			if (opType.equals("test")) {
-				ops.add(TestOperation.whetherValueAt(path).hasValue(value));
-			} else if (opType.equals("replace")) {
-				ops.add(ReplaceOperation.valueAt(path).with(value));
-			} else if (opType.equals("remove")) {
-				ops.add(RemoveOperation.valueAt(path));
-			} else if (opType.equals("add")) {
-				ops.add(AddOperation.of(path, value));
-			} else if (opType.equals("copy")) {
-				ops.add(CopyOperation.from(from).to(path));
-			} else if (opType.equals("move")) {
-				ops.add(MoveOperation.from(from).to(path));
-			} else {
-				throw new PatchException("Unrecognized operation type: " + opType);
+		if (token != JsonToken.START_ARRAY) {
+			throw new IllegalArgumentException("JSON Patch document must be an array");
+		}
+
+		for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+
+			if (token == null) {
+				throw new IllegalArgumentException("Unexpected end of JSON Patch document");
 			}
+
+			toOperation(mapper.readTree(parser)).perform(target, type, context);
 		}
 
-		return new Patch(ops, context);
+		return target;
+	}
+
+	private PatchOperation toOperation(JsonNode opNode) {
+
+		String opType = opNode.get("op").textValue();
+		String path = opNode.get("path").textValue();
+
+		JsonNode valueNode = opNode.get("value");
+		Object value = valueFromJsonNode(path, valueNode);
+		String from = opNode.has("from") ? opNode.get("from").textValue() : null;
+
+		if (opType.equals("test")) {
+			return TestOperation.whetherValueAt(path).hasValue(value);
+		} else if (opType.equals("replace")) {
+			return ReplaceOperation.valueAt(path).with(value);
+		} else if (opType.equals("remove")) {
+			return RemoveOperation.valueAt(path);
+		} else if (opType.equals("add")) {
+			return AddOperation.of(path, value);
+		} else if (opType.equals("copy")) {
+			return CopyOperation.from(from).to(path);
+		} else if (opType.equals("move")) {
+			return MoveOperation.from(from).to(path);
+		}
+
+		throw new PatchException("Unrecognized operation type: " + opType);
 	}
 
 	private Object valueFromJsonNode(String path, JsonNode valueNode) {
@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.MappingException;
@@ -47,6 +49,7 @@ public class DefaultLinkCollector implements LinkCollector {
 	private final PersistentEntities entities;
 	private final Associations associationLinks;
 	private final SelfLinkProvider links;
+	private final Map<PersistentEntity<?, ?>, List<Link>> associationLinkTemplates = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link DefaultLinkCollector} for the given {@link PersistentEntities}, {@link SelfLinkProvider} and
@@ -98,12 +101,16 @@ public class DefaultLinkCollector implements LinkCollector {
 			return existingLinks;
 		}
 
-		Path path = new Path(selfLink.expand().getHref());
+		String basePath = new Path(selfLink.expand().getHref()).toString();
+		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(object.getClass());
+		List<Link> templates = getAssociationLinkTemplates(entity);
+		List<Link> result = new ArrayList<>(templates.size());
 
-		LinkCollectingAssociationHandler handler = new LinkCollectingAssociationHandler(path, associationLinks);
-		entities.getRequiredPersistentEntity(object.getClass()).doWithAssociations(handler);
+		for (Link template : templates) {
+			result.add(Link.of(basePath.concat(template.getHref()), template.getRel()));
+		}
 
-		return addSelfLinkIfNecessary(object, existingLinks.and(handler.getLinks()));
+		return addSelfLinkIfNecessary(object, existingLinks.and(result));
 	}
 
 	@Override
@@ -118,6 +125,25 @@ public class DefaultLinkCollector implements LinkCollector {
 		return existing.and(handler.getLinks());
 	}
 
+	/**
+	 * Returns the links for all linkable associations of the given {@link PersistentEntity} relative to the entity's self
+	 * link. They're computed once per entity, so that rendering an individual entity only has to prefix them with the
+	 * actual self link.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private List<Link> getAssociationLinkTemplates(PersistentEntity<?, ?> entity) {
+
+		return associationLinkTemplates.computeIfAbsent(entity, it -> {
+
+			LinkCollectingAssociationHandler handler = new LinkCollectingAssociationHandler(new Path(""), associationLinks);
+			it.doWithAssociations(handler);
+
+			return handler.getLinks().toList();
+		});
+	}
+
 	private Links addSelfLinkIfNecessary(Object object, Links existing) {
 		return existing.andIf(!existing.hasLink(IanaLinkRelations.SELF),
 				() -> links.createSelfLinkFor(object).withSelfRel());
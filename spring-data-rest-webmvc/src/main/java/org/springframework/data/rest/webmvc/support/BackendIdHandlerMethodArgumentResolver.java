@@ -16,6 +16,7 @@
 package org.springframework.data.rest.webmvc.support;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
@@ -24,11 +25,13 @@ import org.springframework.data.rest.webmvc.config.ResourceMetadataHandlerMethod
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
 import org.springframework.data.rest.webmvc.util.UriUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -40,6 +43,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  */
 public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
+	private static final String RESOLVED_ID_ATTRIBUTE = BackendIdHandlerMethodArgumentResolver.class.getName()
+			+ ".RESOLVED_ID";
+
 	private final PluginRegistry<BackendIdConverter, Class<?>> idConverters;
 	private final ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver;
 	private final BaseUri baseUri;
@@ -81,6 +87,14 @@ public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgu
 					Serializable.class.getSimpleName(), parameterType.getSimpleName(), parameter.getMethod()));
 		}
 
+		Method method = parameter.getMethod();
+		Object attribute = request.getAttribute(RESOLVED_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		// Reuse the identifier already resolved for other parameters of the same handler method
+		if (attribute instanceof ResolvedId && ((ResolvedId) attribute).method.equals(method)) {
+			return ((ResolvedId) attribute).id;
+		}
+
 		ResourceMetadata metadata = resourceMetadataResolver.resolveArgument(parameter, mavContainer, request,
 				binderFactory);
 
@@ -91,10 +105,31 @@ public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgu
 		BackendIdConverter pluginFor = idConverters.getPluginFor(metadata.getDomainType())
 				.orElse(DefaultIdConverter.INSTANCE);
 		String lookupPath = baseUri.getRepositoryLookupPath(request);
-		String idSource = UriUtils.findMappingVariable("id", parameter.getMethod(), lookupPath);
+		String idSource = UriUtils.findMappingVariable("id", method, lookupPath);
 
-		return StringUtils.hasText(idSource) //
+		Serializable id = StringUtils.hasText(idSource) //
 				? pluginFor.fromRequestId(idSource, metadata.getDomainType())
 				: null;
+
+		request.setAttribute(RESOLVED_ID_ATTRIBUTE, new ResolvedId(method, id), RequestAttributes.SCOPE_REQUEST);
+
+		return id;
+	}
+
+	/**
+	 * The backend identifier resolved for a handler method within the current request.
+	 *
+	 * @since 4.1
+	 */
+	private static class ResolvedId {
+
+		private final Method method;
+		private final @Nullable Serializable id;
+
+		ResolvedId(Method method, @Nullable Serializable id) {
+
+			this.method = method;
+			this.id = id;
+		}
 	}
 }
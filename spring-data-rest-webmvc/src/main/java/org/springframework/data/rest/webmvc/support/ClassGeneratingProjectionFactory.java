@@ -0,0 +1,364 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ProjectionFactory} that creates projections using classes generated at runtime instead of JDK proxies where
+ * possible. A class is generated once per projection interface and source type if every accessor of the projection is
+ * backed by a public getter of the source type returning a value assignable to the accessor's return type. The
+ * generated class implements the projection interface and {@link TargetAware} and simply delegates to the getters of
+ * the source. All other projections, e.g. ones using {@link Value} expressions, nested projections or requiring type
+ * conversion, as well as all projections created in a native image are created by the given delegate
+ * {@link ProjectionFactory}.
+ *
+ * @since 4.1
+ */
+public class ClassGeneratingProjectionFactory implements ProjectionFactory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClassGeneratingProjectionFactory.class);
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private static final String TARGET_FIELD = "target";
+	private static final String OBJECT = Type.getInternalName(Object.class);
+	private static final String OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class);
+
+	private final ProjectionFactory delegate;
+	private final Map<CacheKey, Optional<MethodHandle>> constructors = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ClassGeneratingProjectionFactory} falling back to the given {@link ProjectionFactory} for
+	 * projections that cannot be backed by a generated class.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public ClassGeneratingProjectionFactory(ProjectionFactory delegate) {
+
+		Assert.notNull(delegate, "Delegate ProjectionFactory must not be null");
+
+		this.delegate = delegate;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T createProjection(Class<T> projectionType, Object source) {
+
+		Assert.notNull(projectionType, "Projection type must not be null");
+		Assert.notNull(source, "Source must not be null");
+
+		if (projectionType.isInstance(source)) {
+			return (T) source;
+		}
+
+		Optional<MethodHandle> constructor = constructors.computeIfAbsent(
+				new CacheKey(projectionType, source.getClass()), it -> generate(it.projectionType, it.sourceType));
+
+		if (!constructor.isPresent()) {
+			return delegate.createProjection(projectionType, source);
+		}
+
+		try {
+			return (T) constructor.get().invoke(source);
+		} catch (RuntimeException | Error o_O) {
+			throw o_O;
+		} catch (Throwable o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	@Override
+	public <T> T createProjection(Class<T> projectionType) {
+		return delegate.createProjection(projectionType);
+	}
+
+	@Override
+	public ProjectionInformation getProjectionInformation(Class<?> projectionType) {
+		return delegate.getProjectionInformation(projectionType);
+	}
+
+	/**
+	 * Generates a class implementing the given projection interface backed by an instance of the given source type and
+	 * returns a handle to its constructor.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return {@link Optional#empty()} in case the projection cannot be backed by a generated class.
+	 */
+	private static Optional<MethodHandle> generate(Class<?> projectionType, Class<?> sourceType) {
+
+		if (NativeDetector.inNativeImage() || !projectionType.isInterface()) {
+			return Optional.empty();
+		}
+
+		Map<Method, Method> accessors = getAccessors(projectionType, ProxyUtils.getUserClass(sourceType));
+
+		if (accessors == null) {
+			return Optional.empty();
+		}
+
+		String className = projectionType.getName() + "$$GeneratedProjection$" + COUNTER.incrementAndGet();
+
+		try {
+
+			Class<?> type = MethodHandles.privateLookupIn(projectionType, MethodHandles.lookup())
+					.defineClass(generateClass(className, projectionType, accessors));
+
+			LOGGER.debug("Generated projection implementation {} for source type {}.", type.getName(), sourceType);
+
+			return Optional.of(MethodHandles.publicLookup() //
+					.findConstructor(type, MethodType.methodType(void.class, Object.class)) //
+					.asType(MethodType.methodType(Object.class, Object.class)));
+
+		} catch (Exception | LinkageError o_O) {
+
+			LOGGER.debug("Could not generate projection implementation for {}, using proxy instead.", projectionType,
+					o_O);
+
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the getters of the given source type to back the accessors of the given projection type with.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return the getters of the source type keyed by the projection accessor they back or {@literal null} in case not
+	 *         all accessors can be backed by a getter.
+	 */
+	private static Map<Method, Method> getAccessors(Class<?> projectionType, Class<?> sourceType) {
+
+		ClassLoader classLoader = projectionType.getClassLoader();
+		Map<String, Method> signatures = new HashMap<>();
+		Map<Method, Method> result = new HashMap<>();
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			String signature = method.getName() + Type.getMethodDescriptor(method);
+
+			if (signatures.containsKey(signature)) {
+				continue;
+			}
+
+			PropertyDescriptor projectionProperty = BeanUtils.findPropertyForMethod(method);
+
+			if (projectionProperty == null || !method.equals(projectionProperty.getReadMethod())
+					|| AnnotatedElementUtils.hasAnnotation(method, Value.class)) {
+				return null;
+			}
+
+			PropertyDescriptor sourceProperty = BeanUtils.getPropertyDescriptor(sourceType,
+					projectionProperty.getName());
+			Method getter = sourceProperty == null ? null : sourceProperty.getReadMethod();
+
+			if (getter == null || !isAccessible(getter, classLoader)
+					|| !isCompatible(method, projectionType, getter, sourceType)) {
+				return null;
+			}
+
+			signatures.put(signature, method);
+			result.put(method, getter);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns whether the value returned by the given getter can be returned from the given accessor as is. Primitives
+	 * have to match exactly as the generated code doesn't box or unbox values.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param projectionType must not be {@literal null}.
+	 * @param getter must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isCompatible(Method accessor, Class<?> projectionType, Method getter, Class<?> sourceType) {
+
+		Class<?> accessorReturnType = accessor.getReturnType();
+		Class<?> getterReturnType = getter.getReturnType();
+
+		if (accessorReturnType.isPrimitive() || getterReturnType.isPrimitive()) {
+			return accessorReturnType.equals(getterReturnType);
+		}
+
+		return ResolvableType.forMethodReturnType(accessor, projectionType)
+				.isAssignableFrom(ResolvableType.forMethodReturnType(getter, sourceType));
+	}
+
+	private static boolean isAccessible(Method getter, ClassLoader classLoader) {
+
+		Class<?> declaringClass = getter.getDeclaringClass();
+
+		return Modifier.isPublic(getter.getModifiers()) //
+				&& Modifier.isPublic(declaringClass.getModifiers()) //
+				&& !Modifier.isStatic(getter.getModifiers()) //
+				&& isVisible(declaringClass, classLoader) //
+				&& isVisible(getter.getReturnType(), classLoader);
+	}
+
+	private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+
+		Class<?> candidate = type;
+
+		while (candidate.isArray()) {
+			candidate = candidate.getComponentType();
+		}
+
+		return candidate.isPrimitive() || ClassUtils.isVisible(candidate, classLoader);
+	}
+
+	private static byte[] generateClass(String className, Class<?> projectionType, Map<Method, Method> accessors) {
+
+		String internalName = className.replace('.', '/');
+
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, internalName, null,
+				OBJECT, new String[] { Type.getInternalName(projectionType), Type.getInternalName(TargetAware.class) });
+
+		writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, TARGET_FIELD, OBJECT_DESCRIPTOR, null, null)
+				.visitEnd();
+
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "(" + OBJECT_DESCRIPTOR + ")V",
+				null, null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitVarInsn(Opcodes.ALOAD, 1);
+		constructor.visitFieldInsn(Opcodes.PUTFIELD, internalName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		for (Map.Entry<Method, Method> entry : accessors.entrySet()) {
+
+			Method accessor = entry.getKey();
+			Method getter = entry.getValue();
+			Class<?> owner = getter.getDeclaringClass();
+
+			MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, accessor.getName(),
+					Type.getMethodDescriptor(accessor), null, null);
+			visitor.visitCode();
+			visitor.visitVarInsn(Opcodes.ALOAD, 0);
+			visitor.visitFieldInsn(Opcodes.GETFIELD, internalName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+			visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(owner));
+			visitor.visitMethodInsn(owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+					Type.getInternalName(owner), getter.getName(), Type.getMethodDescriptor(getter),
+					owner.isInterface());
+
+			Class<?> returnType = accessor.getReturnType();
+
+			if (!returnType.isPrimitive() && !returnType.isAssignableFrom(getter.getReturnType())) {
+				visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(returnType));
+			}
+
+			visitor.visitInsn(Type.getType(accessor.getReturnType()).getOpcode(Opcodes.IRETURN));
+			visitor.visitMaxs(0, 0);
+			visitor.visitEnd();
+		}
+
+		MethodVisitor getTarget = writer.visitMethod(Opcodes.ACC_PUBLIC, "getTarget", "()" + OBJECT_DESCRIPTOR, null,
+				null);
+		getTarget.visitCode();
+		getTarget.visitVarInsn(Opcodes.ALOAD, 0);
+		getTarget.visitFieldInsn(Opcodes.GETFIELD, internalName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		getTarget.visitInsn(Opcodes.ARETURN);
+		getTarget.visitMaxs(0, 0);
+		getTarget.visitEnd();
+
+		MethodVisitor getTargetClass = writer.visitMethod(Opcodes.ACC_PUBLIC, "getTargetClass",
+				"()" + Type.getDescriptor(Class.class), null, null);
+		getTargetClass.visitCode();
+		getTargetClass.visitVarInsn(Opcodes.ALOAD, 0);
+		getTargetClass.visitFieldInsn(Opcodes.GETFIELD, internalName, TARGET_FIELD, OBJECT_DESCRIPTOR);
+		getTargetClass.visitMethodInsn(Opcodes.INVOKEVIRTUAL, OBJECT, "getClass",
+				"()" + Type.getDescriptor(Class.class), false);
+		getTargetClass.visitInsn(Opcodes.ARETURN);
+		getTargetClass.visitMaxs(0, 0);
+		getTargetClass.visitEnd();
+
+		writer.visitEnd();
+
+		return writer.toByteArray();
+	}
+
+	private static final class CacheKey {
+
+		private final Class<?> projectionType, sourceType;
+
+		CacheKey(Class<?> projectionType, Class<?> sourceType) {
+
+			this.projectionType = projectionType;
+			this.sourceType = sourceType;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return projectionType.equals(that.projectionType) && sourceType.equals(that.sourceType);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectionType, sourceType);
+		}
+	}
+}
@@ -86,15 +86,9 @@ public class DomainClassResolver {
 			return null;
 		}
 
-		for (Class<?> domainType : repositories) {
-
-			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
-
-			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return domainType;
-			}
-		}
-
-		return null;
+		return mappings.getExportedMetadataForPath(repositoryKey) //
+				.<Class<?>> map(ResourceMetadata::getDomainType) //
+				.filter(repositories::hasRepositoryFor) //
+				.orElse(null);
 	}
 }
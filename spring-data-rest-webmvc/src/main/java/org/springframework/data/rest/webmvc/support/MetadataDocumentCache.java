@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * Cache for metadata documents like JSON Schema and ALPS, keyed by the domain type they describe, the base URI links
+ * are rendered with and the {@link Locale} descriptions are resolved for. The documents are serialized once and served
+ * as {@link RawValue} alongside a strong ETag so that conditional requests can be answered with
+ * {@code 304 Not Modified}. As the base URI is derived from request headers, only a bounded number of variants is
+ * cached per domain type. Documents that also include data, like the values of lookup types enumerated in the JSON
+ * Schema, can be expired after a configurable time to live.
+ *
+ * @since 4.1
+ */
+public class MetadataDocumentCache {
+
+	private static final int MAX_VARIANTS_PER_TYPE = 64;
+
+	private final ObjectMapper mapper;
+	private final Supplier<CacheControl> cacheControl;
+	private final @Nullable Supplier<Duration> timeToLive;
+	private final Map<Class<?>, Map<Variant, Document>> documents = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link MetadataDocumentCache} using the given {@link ObjectMapper} to serialize documents and the
+	 * given {@link CacheControl}. Cached documents never expire.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param cacheControl must not be {@literal null}.
+	 */
+	public MetadataDocumentCache(ObjectMapper mapper, Supplier<CacheControl> cacheControl) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+		Assert.notNull(cacheControl, "CacheControl must not be null");
+
+		this.mapper = mapper;
+		this.cacheControl = cacheControl;
+		this.timeToLive = null;
+	}
+
+	/**
+	 * Creates a new {@link MetadataDocumentCache} using the given {@link ObjectMapper} to serialize documents, the given
+	 * {@link CacheControl} and time to live for cached documents.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param cacheControl must not be {@literal null}.
+	 * @param timeToLive the time after which cached documents are created again, {@link Duration#ZERO} disables caching.
+	 *          Must not be {@literal null}.
+	 */
+	public MetadataDocumentCache(ObjectMapper mapper, Supplier<CacheControl> cacheControl,
+			Supplier<Duration> timeToLive) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+		Assert.notNull(cacheControl, "CacheControl must not be null");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+
+		this.mapper = mapper;
+		this.cacheControl = cacheControl;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns the response for the document describing the given domain type. The document is created using the given
+	 * {@link Supplier} in case it hasn't been cached for the current request's base URI and {@link Locale} yet or the
+	 * cached one has expired.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param headers the headers of the current request, must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public ResponseEntity<?> getDocument(Class<?> domainType, HttpHeaders headers, Supplier<?> document) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(headers, "HttpHeaders must not be null");
+		Assert.notNull(document, "Document supplier must not be null");
+
+		Variant variant = new Variant(ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString(),
+				LocaleContextHolder.getLocale());
+		Map<Variant, Document> variants = documents.computeIfAbsent(domainType, __ -> new ConcurrentHashMap<>());
+		Document result = getOrCreate(variants, variant, document);
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.setETag(result.etag);
+		responseHeaders.setCacheControl(cacheControl.get());
+
+		return headers.getIfNoneMatch().stream().anyMatch(it -> it.equals(result.etag) || it.equals("*")) //
+				? new ResponseEntity<>(responseHeaders, HttpStatus.NOT_MODIFIED) //
+				: new ResponseEntity<>(new RawValue(result.content), responseHeaders, HttpStatus.OK);
+	}
+
+	private Document getOrCreate(Map<Variant, Document> variants, Variant variant, Supplier<?> document) {
+
+		Document cached = variants.get(variant);
+
+		if (cached != null && !cached.isExpired()) {
+			return cached;
+		}
+
+		Duration duration = timeToLive == null ? null : timeToLive.get();
+		Instant expiry = duration == null ? null : Instant.now().plus(duration);
+		Document result = Document.of(document.get(), mapper, expiry);
+
+		if ((duration == null || !duration.isZero()) && (cached != null || variants.size() < MAX_VARIANTS_PER_TYPE)) {
+			variants.put(variant, result);
+		}
+
+		return result;
+	}
+
+	private static class Document {
+
+		private final String content, etag;
+		private final @Nullable Instant expiry;
+
+		private Document(String content, String etag, @Nullable Instant expiry) {
+
+			this.content = content;
+			this.etag = etag;
+			this.expiry = expiry;
+		}
+
+		static Document of(Object source, ObjectMapper mapper, @Nullable Instant expiry) {
+
+			try {
+
+				byte[] bytes = mapper.writeValueAsBytes(source);
+
+				return new Document(new String(bytes, StandardCharsets.UTF_8),
+						"\"".concat(DigestUtils.md5DigestAsHex(bytes)).concat("\""), expiry);
+
+			} catch (JsonProcessingException o_O) {
+				throw new IllegalStateException("Could not serialize metadata document", o_O);
+			}
+		}
+
+		boolean isExpired() {
+			return expiry != null && Instant.now().isAfter(expiry);
+		}
+	}
+
+	private static class Variant {
+
+		private final String baseUri;
+		private final Locale locale;
+
+		Variant(String baseUri, Locale locale) {
+
+			this.baseUri = baseUri;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Variant)) {
+				return false;
+			}
+
+			Variant that = (Variant) obj;
+
+			return baseUri.equals(that.baseUri) && Objects.equals(locale, that.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(baseUri, locale);
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.rest.webmvc.support;
 import static org.springframework.hateoas.TemplateVariable.VariableType.*;
 
 import java.io.Serializable;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,6 +47,7 @@ import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.LinkBuilder;
 import org.springframework.hateoas.server.core.AbstractEntityLinks;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.web.util.UriComponents;
@@ -66,6 +68,8 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	private final Lazy<PagingAndSortingTemplateVariables> templateVariables;
 	private final PluginRegistry<BackendIdConverter, Class<?>> idConverters;
 
+	private volatile @Nullable BaseUri baseUri;
+
 	public RepositoryEntityLinks(Repositories repositories, ResourceMappings mappings, RepositoryRestConfiguration config,
 			PagingAndSortingTemplateVariables templateVariables, PluginRegistry<BackendIdConverter, Class<?>> idConverters) {
 		this(repositories, mappings, config, Lazy.of(templateVariables), idConverters);
@@ -98,7 +102,7 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	public LinkBuilder linkFor(Class<?> type) {
 
 		ResourceMetadata metadata = mappings.getMetadataFor(type);
-		return new RepositoryLinkBuilder(metadata, new BaseUri(config.getBasePath()));
+		return new RepositoryLinkBuilder(metadata, getBaseUri());
 	}
 
 	@Override
@@ -106,6 +110,24 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		return linkFor(type);
 	}
 
+	/**
+	 * Returns the {@link BaseUri} for the currently configured base path, reusing the previously created instance if the
+	 * base path has not changed.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private BaseUri getBaseUri() {
+
+		URI basePath = config.getBasePath();
+		BaseUri baseUri = this.baseUri;
+
+		if (baseUri == null || !baseUri.getUri().equals(basePath)) {
+			this.baseUri = baseUri = new BaseUri(basePath);
+		}
+
+		return baseUri;
+	}
+
 	/**
 	 * Returns the link to to the paged colelction resource for the given type, pre-expanding the
 	 *
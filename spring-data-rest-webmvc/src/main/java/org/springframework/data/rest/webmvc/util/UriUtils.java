@@ -17,11 +17,14 @@ package org.springframework.data.rest.webmvc.util;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.hateoas.server.core.AnnotationMappingDiscoverer;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
 
 /**
  * Utility methods to work with requests and URIs.
@@ -32,6 +35,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public abstract class UriUtils {
 
 	private static AnnotationMappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final Map<Method, UriTemplate> TEMPLATES = new ConcurrentReferenceHashMap<>();
 
 	private UriUtils() {}
 
@@ -48,9 +52,7 @@ public abstract class UriUtils {
 		Assert.hasText(variable, "Variable name must not be null or empty");
 		Assert.notNull(method, "Method must not be null");
 
-		String mapping = DISCOVERER.getMapping(method);
-
-		return new org.springframework.web.util.UriTemplate(mapping) //
+		return TEMPLATES.computeIfAbsent(method, it -> new UriTemplate(DISCOVERER.getMapping(it))) //
 				.match(lookupPath) //
 				.get(variable);
 	}
@@ -20,6 +20,9 @@ import static org.assertj.core.api.Assertions.*;
 import java.net.URI;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for {@link BaseUri}.
@@ -76,4 +79,30 @@ class BaseUriUnitTests {
 	void repositoryLookupPathHandlesDoubleSlashes() {
 		assertThat(BaseUri.NONE.getRepositoryLookupPath("/books//1")).isEqualTo("/books/1");
 	}
+
+	@Test
+	void resolvesServletMappingOncePerRequest() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people");
+		request.setServerName("localhost");
+		request.setServerPort(8080);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		try {
+
+			BaseUri uri = new BaseUri("/api");
+
+			assertThat(uri.getUriComponentsBuilder().path("/people").toUriString())
+					.isEqualTo("http://localhost:8080/api/people");
+
+			request.setServerName("example.com");
+
+			assertThat(uri.getUriComponentsBuilder().path("/orders").toUriString())
+					.isEqualTo("http://localhost:8080/api/orders");
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
 }
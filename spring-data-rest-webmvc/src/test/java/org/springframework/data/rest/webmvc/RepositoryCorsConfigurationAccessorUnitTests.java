@@ -25,8 +25,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping.NoOpStringValueResolver;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping.RepositoryCorsConfigurationAccessor;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -97,6 +99,27 @@ class RepositoryCorsConfigurationAccessorUnitTests {
 		assertThat(accessor.findCorsConfiguration("/people")).isEmpty();
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void cachesCorsConfigurationPerRepositoryBasePath() {
+
+		ResourceMetadata metadata = mock(ResourceMetadata.class);
+		RepositoryInformation information = mock(RepositoryInformation.class);
+
+		when(mappings.exportsTopLevelResourceFor("/people")).thenReturn(true);
+		when(mappings.getExportedMetadataForPath("/people")).thenReturn(Optional.of(metadata));
+		when(metadata.getDomainType()).thenReturn((Class) Object.class);
+		when(repositories.getRepositoryInformationFor(Object.class)).thenReturn(Optional.of(information));
+		when(information.getRepositoryInterface()).thenReturn((Class) AnnotatedRepository.class);
+
+		Optional<CorsConfiguration> configuration = accessor.findCorsConfiguration("/people/4711");
+
+		assertThat(configuration).isPresent();
+		assertThat(accessor.findCorsConfiguration("/people")).isEqualTo(configuration);
+
+		verify(mappings, times(1)).getExportedMetadataForPath("/people");
+	}
+
 	interface PlainRepository {}
 
 	@CrossOrigin
@@ -18,23 +18,58 @@ package org.springframework.data.rest.webmvc;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
+import java.net.URI;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.EntityVersion;
+import org.springframework.data.rest.core.support.EntityVersionProbe;
+import org.springframework.data.rest.webmvc.RepositoryPropertyReferenceControllerUnitTests.Sample;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.util.Streamable;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for {@link RepositoryEntityController}
@@ -49,30 +84,187 @@ class RepositoryEntityControllerTest {
 	@Mock RepositoryEntityLinks repositoryEntityLinks;
 	@Mock HttpHeadersPreparer httpHeadersPreparer;
 	@Mock RepositoryInvoker invoker;
+	@Mock QuerydslRepositoryInvokerAdapter querydslInvoker;
 	@Mock PagedResourcesAssembler<Object> assembler;
+	@Mock PersistentEntityResourceAssembler entityAssembler;
+	@Mock RepositoryInformation repositoryInformation;
+	@Mock EntityVersionProbe<?> versionProbe;
 
 	KeyValueMappingContext<?, ?> mappingContext = new KeyValueMappingContext<>();
 
+	@BeforeEach
+	void setUp() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
 	@Test // DATAREST-1143
 	void testUnknownItemThrowsResourceNotFound() throws Exception {
 
-		KeyValuePersistentEntity<?, ?> entity = mappingContext
-				.getRequiredPersistentEntity(RepositoryPropertyReferenceControllerUnitTests.Sample.class);
+		RootResourceInformation information = getResourceInformation(invoker);
+		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(repositories,
+				restConfiguration, repositoryEntityLinks, assembler, httpHeadersPreparer);
+
+		assertThatExceptionOfType(ResourceNotFoundException.class) //
+				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+	}
+
+	@Test
+	void answersConditionalRequestFromEntityVersionProbeWithoutLoadingTheEntity() throws Exception {
+
+		when(versionProbe.supports(Sample.class)).thenReturn(true);
+		when(versionProbe.probe("1")).thenReturn(Optional.of(EntityVersion.of(0, null)));
+		when(httpHeadersPreparer.prepareHeaders(any(EntityVersion.class))).thenReturn(new HttpHeaders());
+
+		RepositoryEntityController controller = new RepositoryEntityController(repositories, restConfiguration,
+				repositoryEntityLinks, assembler, httpHeadersPreparer, PluginRegistry.of(versionProbe),
+				new RepresentationCache(new PersistentEntities(Collections.emptyList()), 0),
+				new HateoasPageableHandlerMethodArgumentResolver());
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"0\"");
+
+		ResponseEntity<EntityModel<?>> response = controller.getItemResource(getResourceInformation(invoker), "1", null,
+				headers);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		verify(invoker, never()).invokeFindById(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void scrollsThroughDeclaredFindAllByMethod() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findAllBy", ScrollPosition.class, Pageable.class);
+
+		when(restConfiguration.isKeysetPaginationEnabledFor(Sample.class)).thenReturn(true);
+		when(restConfiguration.getCursorParamName()).thenReturn("cursor");
+		when(restConfiguration.getBasePath()).thenReturn(URI.create(""));
+		when(repositories.getRepositoryInformationFor(Sample.class)).thenReturn(Optional.of(repositoryInformation));
+		when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+		when(invoker.invokeQueryMethod(eq(method), any(), any(), any()))
+				.thenReturn(Optional.of(Window.from(List.of(), ScrollPosition::offset)));
+
+		getCollectionResource(getResourceInformation(invoker));
+
+		ArgumentCaptor<MultiValueMap<String, Object>> arguments = ArgumentCaptor.forClass(MultiValueMap.class);
+
+		verify(invoker).invokeQueryMethod(eq(method), arguments.capture(), eq(PageRequest.of(0, 2)), eq(Sort.unsorted()));
+		verify(invoker, never()).invokeFindAll(any(Pageable.class));
+
+		assertThat(arguments.getValue().getFirst("position")).isEqualTo(ScrollPosition.keyset());
+	}
+
+	@Test
+	void doesNotScrollRequestsFilteredByQuerydslPredicate() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findAllBy", ScrollPosition.class, Pageable.class);
+
+		when(restConfiguration.isKeysetPaginationEnabledFor(Sample.class)).thenReturn(true);
+		when(restConfiguration.getBasePath()).thenReturn(URI.create(""));
+		lenient().when(repositories.getRepositoryInformationFor(Sample.class))
+				.thenReturn(Optional.of(repositoryInformation));
+		lenient().when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+
+		getCollectionResource(getResourceInformation(querydslInvoker));
+
+		verify(querydslInvoker, never()).invokeQueryMethod(any(), any(), any(), any());
+		verify(querydslInvoker).invokeFindAll(PageRequest.of(0, 2));
+	}
+
+	@Test
+	void slicesThroughDeclaredFindAllByMethodIfCountQueryIsDisabled() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findAllBy", Pageable.class);
+
+		when(restConfiguration.isCountQueryDisabledFor(Sample.class)).thenReturn(true);
+		when(restConfiguration.getBasePath()).thenReturn(URI.create(""));
+		when(repositories.getRepositoryInformationFor(Sample.class)).thenReturn(Optional.of(repositoryInformation));
+		when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+		when(invoker.invokeQueryMethod(eq(method), any(), any(), any()))
+				.thenReturn(Optional.of(new SliceImpl<>(List.of(), PageRequest.of(0, 2), true)));
+
+		getCollectionResource(getResourceInformation(invoker));
+
+		verify(invoker).invokeQueryMethod(eq(method), any(), eq(PageRequest.of(0, 2)), eq(Sort.unsorted()));
+		verify(invoker, never()).invokeFindAll(any(Pageable.class));
+	}
+
+	@Test
+	void rendersSliceLinksWithOneIndexedParameters() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findAllBy", Pageable.class);
+
+		when(restConfiguration.isCountQueryDisabledFor(Sample.class)).thenReturn(true);
+		when(restConfiguration.getBasePath()).thenReturn(URI.create(""));
+		when(repositories.getRepositoryInformationFor(Sample.class)).thenReturn(Optional.of(repositoryInformation));
+		when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+		when(invoker.invokeQueryMethod(eq(method), any(), any(), any()))
+				.thenReturn(Optional.of(new SliceImpl<>(List.of(), PageRequest.of(1, 2), true)));
+
+		HateoasPageableHandlerMethodArgumentResolver pageableResolver = new HateoasPageableHandlerMethodArgumentResolver();
+		pageableResolver.setOneIndexedParameters(true);
+
+		RepositoryEntityController controller = new RepositoryEntityController(repositories, restConfiguration,
+				repositoryEntityLinks, assembler, httpHeadersPreparer, PluginRegistry.empty(),
+				new RepresentationCache(new PersistentEntities(Collections.emptyList()), 0), pageableResolver);
+
+		CollectionModel<?> model = controller.getCollectionResource(getResourceInformation(invoker),
+				new DefaultedPageable(PageRequest.of(1, 2), false), Sort.unsorted(), entityAssembler, new HttpHeaders(),
+				new LinkedMultiValueMap<>()).getBody();
+
+		assertThat(model.getRequiredLink(IanaLinkRelations.PREV).getHref()).contains("page=1", "size=2");
+		assertThat(model.getRequiredLink(IanaLinkRelations.NEXT).getHref()).contains("page=3", "size=2");
+	}
+
+	@Test
+	void doesNotSliceIfCountQueryIsEnabled() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findAllBy", Pageable.class);
+
+		when(restConfiguration.getBasePath()).thenReturn(URI.create(""));
+		lenient().when(repositories.getRepositoryInformationFor(Sample.class))
+				.thenReturn(Optional.of(repositoryInformation));
+		lenient().when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+
+		getCollectionResource(getResourceInformation(invoker));
+
+		verify(invoker, never()).invokeQueryMethod(any(), any(), any(), any());
+		verify(invoker).invokeFindAll(PageRequest.of(0, 2));
+	}
+
+	private void getCollectionResource(RootResourceInformation information) throws Exception {
+
+		RepositoryEntityController controller = new RepositoryEntityController(repositories, restConfiguration,
+				repositoryEntityLinks, assembler, httpHeadersPreparer);
+
+		controller.getCollectionResource(information, new DefaultedPageable(PageRequest.of(0, 2), false),
+				Sort.unsorted(), entityAssembler, new HttpHeaders(), new LinkedMultiValueMap<>());
+	}
+
+	private RootResourceInformation getResourceInformation(RepositoryInvoker invoker) {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
 
 		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
 				new PersistentEntities(Collections.singleton(mappingContext)));
 
-		ResourceMetadata metadata = spy(
-				mappings.getMetadataFor(RepositoryPropertyReferenceControllerUnitTests.Sample.class));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
 
 		when(metadata.getSupportedHttpMethods())
 				.thenReturn(RepositoryPropertyReferenceControllerUnitTests.AllSupportedHttpMethods.INSTANCE);
 
-		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
-		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(repositories,
-				restConfiguration, repositoryEntityLinks, assembler, httpHeadersPreparer);
+		return new RootResourceInformation(metadata, entity, invoker);
+	}
 
-		assertThatExceptionOfType(ResourceNotFoundException.class) //
-				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+	interface SampleRepository {
+
+		Window<Sample> findAllBy(@Param("position") ScrollPosition position, Pageable pageable);
+
+		Slice<Sample> findAllBy(Pageable pageable);
 	}
 }
@@ -66,6 +66,15 @@ class RepositoryRestExceptionHandlerUnitTests {
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 	}
 
+	@Test
+	void rendersInvalidCursorAsBadRequest() {
+
+		ResponseEntity<ExceptionMessage> result = HANDLER.handleInvalidCursor(new InvalidCursorException("foo", null));
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(result.getBody().getMessage()).isEqualTo("Invalid cursor foo");
+	}
+
 	@Test // DATAREST-507
 	void handlesConflictCorrectly() {
 
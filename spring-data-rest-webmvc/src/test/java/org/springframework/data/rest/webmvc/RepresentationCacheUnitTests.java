@@ -0,0 +1,312 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * Unit tests for {@link RepresentationCache}.
+ */
+class RepresentationCacheUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntities entities;
+	KeyValuePersistentEntity<?, ?> entity;
+	RepresentationCache cache;
+	HttpHeaders headers;
+
+	@BeforeEach
+	void setUp() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		this.entity = context.getRequiredPersistentEntity(Sample.class);
+		this.entities = new PersistentEntities(Collections.singleton(context));
+		this.cache = new RepresentationCache(entities, 1024 * 1024);
+
+		this.headers = new HttpHeaders();
+		this.headers.setAccept(Collections.singletonList(MediaTypes.HAL_JSON));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void isDisabledForZeroSize() {
+
+		RepresentationCache disabled = new RepresentationCache(new PersistentEntities(Collections.emptyList()), 0);
+
+		startRequest();
+
+		assertThat(disabled.isEnabled()).isFalse();
+		assertThat(disabled.prepare(entity, new Sample(1L, 0), headers)).isEmpty();
+	}
+
+	@Test
+	void writesCachedRepresentationForSameVersion() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		assertThat(render(sample)).contains("\"id\":1");
+
+		MockHttpServletRequest request = startRequest();
+
+		Optional<EntityModel<?>> model = cache.prepare(entity, sample, headers);
+
+		assertThat(model).hasValueSatisfying(it -> assertThat(it).isNotInstanceOf(PersistentEntityResource.class));
+		assertThat(beforeBodyWrite(request, model.get())).isInstanceOf(RawValue.class);
+		assertThat(cache.getStatistics().getHits()).isEqualTo(1);
+		assertThat(cache.getStatistics().getMisses()).isEqualTo(1);
+		assertThat(cache.getStatistics().getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	void doesNotUseCachedRepresentationForNewVersion() throws Exception {
+
+		render(new Sample(1L, 0));
+
+		startRequest();
+
+		assertThat(cache.prepare(entity, new Sample(1L, 1), headers)).isEmpty();
+	}
+
+	@Test
+	void doesNotUseCachedRepresentationForDifferentAcceptHeader() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		render(sample);
+
+		startRequest();
+		headers.setAccept(Collections.singletonList(MediaTypes.HAL_FORMS_JSON));
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+	}
+
+	@Test
+	void doesNotUseCachedRepresentationForDifferentLanguage() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		render(sample);
+
+		startRequest();
+		headers.setAcceptLanguageAsLocales(Collections.singletonList(Locale.GERMAN));
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+	}
+
+	@Test
+	void doesNotUseCachedRepresentationForDifferentPrincipalOrCredentials() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		render(sample);
+
+		MockHttpServletRequest request = startRequest();
+		request.setUserPrincipal(() -> "dave");
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+
+		startRequest();
+		headers.setBasicAuth("dave", "secret");
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+	}
+
+	@Test
+	void cachesRepresentationAsWrittenByTheConverter() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		MockHttpServletRequest request = startRequest();
+		cache.prepare(entity, sample, headers);
+
+		String written = mapper.writerWithDefaultPrettyPrinter()
+				.writeValueAsString(beforeBodyWrite(request, EntityModel.of(sample)));
+
+		request = startRequest();
+
+		Object cached = beforeBodyWrite(request, cache.prepare(entity, sample, headers).orElseThrow());
+
+		assertThat(written).contains(System.lineSeparator());
+		assertThat(cached).isInstanceOfSatisfying(RawValue.class, it -> assertThat(it.rawValue()).isEqualTo(written));
+	}
+
+	@Test
+	void evictsRepresentationsOnAfterSaveEvent() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		render(sample);
+		render(new Sample(2L, 0));
+
+		cache.onApplicationEvent(new AfterSaveEvent(sample));
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(1);
+
+		startRequest();
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+	}
+
+	@Test
+	void evictsAllRepresentationsOfTheEntityOnAfterSaveEvent() throws Exception {
+
+		Sample sample = new Sample(1L, 0);
+
+		render(sample);
+		render(new Sample(2L, 0));
+
+		headers.setAccept(Collections.singletonList(MediaTypes.HAL_FORMS_JSON));
+		render(sample);
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(3);
+
+		cache.onApplicationEvent(new AfterSaveEvent(sample));
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(1);
+
+		render(sample);
+
+		cache.onApplicationEvent(new AfterSaveEvent(sample));
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(1);
+
+		startRequest();
+
+		assertThat(cache.prepare(entity, new Sample(2L, 0), headers)).isPresent();
+	}
+
+	@Test
+	void doesNotRetainCredentialsOfTheRequest() throws Exception {
+
+		headers.setBearerAuth("short");
+		render(new Sample(1L, 0));
+
+		long entrySize = cache.getStatistics().getSize();
+
+		this.cache = new RepresentationCache(entities, 1024 * 1024);
+
+		headers.setBearerAuth("a".repeat(4096));
+		render(new Sample(1L, 0));
+
+		assertThat(cache.getStatistics().getSize()).isEqualTo(entrySize);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedRepresentationsToStayWithinSize() throws Exception {
+
+		this.cache = new RepresentationCache(entities, 400);
+
+		render(new Sample(1L, 0));
+		render(new Sample(2L, 0));
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().getEvictions()).isEqualTo(1);
+		assertThat(cache.getStatistics().getSize()).isLessThanOrEqualTo(400);
+	}
+
+	@Test
+	void keepsRepresentationsAccessedSinceTheLastSweep() throws Exception {
+
+		render(new Sample(1L, 0));
+
+		long entrySize = cache.getStatistics().getSize();
+
+		this.cache = new RepresentationCache(entities, 2 * entrySize + entrySize / 2);
+
+		render(new Sample(1L, 0));
+		render(new Sample(2L, 0));
+
+		startRequest();
+		assertThat(cache.prepare(entity, new Sample(1L, 0), headers)).isPresent();
+
+		render(new Sample(3L, 0));
+
+		assertThat(cache.getStatistics().getCount()).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictions()).isEqualTo(1);
+
+		startRequest();
+		assertThat(cache.prepare(entity, new Sample(1L, 0), headers)).isPresent();
+
+		startRequest();
+		assertThat(cache.prepare(entity, new Sample(2L, 0), headers)).isEmpty();
+	}
+
+	private String render(Sample sample) throws Exception {
+
+		MockHttpServletRequest request = startRequest();
+
+		assertThat(cache.prepare(entity, sample, headers)).isEmpty();
+
+		Object body = beforeBodyWrite(request, EntityModel.of(sample));
+
+		assertThat(body).isNotInstanceOf(EntityModel.class);
+
+		return mapper.writeValueAsString(body);
+	}
+
+	private Object beforeBodyWrite(MockHttpServletRequest request, Object body) {
+
+		return cache.beforeBodyWrite(body, null, MediaTypes.HAL_JSON, MappingJackson2HttpMessageConverter.class,
+				new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+	}
+
+	private static MockHttpServletRequest startRequest() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		return request;
+	}
+
+	@Value
+	static class Sample {
+		@Id Long id;
+		@Version int version;
+	}
+}
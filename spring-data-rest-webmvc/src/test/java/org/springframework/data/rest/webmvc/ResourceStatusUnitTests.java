@@ -21,7 +21,9 @@ import static org.mockito.Mockito.*;
 
 import lombok.Value;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -31,9 +33,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.rest.core.support.EntityVersion;
 import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -62,6 +69,7 @@ class ResourceStatusUnitTests {
 		this.entity = context.getRequiredPersistentEntity(Sample.class);
 
 		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(eq(entity), any());
+		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(any(EntityVersion.class));
 	}
 
 	@Test // DATAREST-835
@@ -101,6 +109,79 @@ class ResourceStatusUnitTests {
 				.withMessageContaining(entity.getType().getName());
 	}
 
+	@Test
+	void returnsNotModifiedForProbedVersionMatchingRequestedETag() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		assertThat(status.getNotModifiedStatusAndHeaders(headers, EntityVersion.of(1, null)))
+				.hasValueSatisfying(this::assertNotModified);
+		assertThat(status.getNotModifiedStatusAndHeaders(headers, EntityVersion.of(2, null))).isEmpty();
+	}
+
+	@Test
+	void returnsNotModifiedForProbedLastModifiedNotAfterIfModifiedSince() {
+
+		Instant lastModified = Instant.parse("2023-01-01T12:00:00.500Z");
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfModifiedSince(Instant.parse("2023-01-01T12:00:00Z"));
+
+		assertThat(status.getNotModifiedStatusAndHeaders(headers, EntityVersion.of(null, lastModified)))
+				.hasValueSatisfying(this::assertNotModified);
+		assertThat(status.getNotModifiedStatusAndHeaders(headers, EntityVersion.of(null, lastModified.plusSeconds(1))))
+				.isEmpty();
+	}
+
+	@Test
+	void doesNotConsiderProbedVersionNotModifiedWithoutVersionInformation() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+		headers.setIfModifiedSince(Instant.parse("2023-01-01T12:00:00Z"));
+
+		assertThat(status.getNotModifiedStatusAndHeaders(headers, EntityVersion.of(null, null))).isEmpty();
+	}
+
+	@Test
+	void returnsNotModifiedForPageWithRequestedCollectionETag() {
+
+		Page<Sample> page = new PageImpl<>(List.of(new Sample(1)), PageRequest.of(0, 10), 1);
+
+		String eTag = status.getStatusAndHeaders(new HttpHeaders(), page, entity) //
+				.map(it -> it.toCollectionResponseEntity(() -> "body")) //
+				.map(it -> it.getHeaders().getETag()) //
+				.orElseThrow();
+
+		assertThat(eTag).startsWith("W/\"");
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(eTag);
+
+		assertThat(status.getStatusAndHeaders(headers, page, entity)).hasValueSatisfying(it -> {
+			assertThat(it.isModified()).isFalse();
+			assertThat(it.toCollectionResponseEntity(() -> "body").getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		});
+
+		Page<Sample> updated = new PageImpl<>(List.of(new Sample(2)), PageRequest.of(0, 10), 1);
+
+		assertThat(status.getStatusAndHeaders(headers, updated, entity)).hasValueSatisfying(it -> {
+			assertThat(it.isModified()).isTrue();
+			assertThat(it.toCollectionResponseEntity(() -> "body").getBody()).isEqualTo("body");
+		});
+	}
+
+	@Test
+	void doesNotCalculateCollectionETagForEntityWithoutVersionProperty() {
+
+		KeyValuePersistentEntity<?, ?> unversioned = new KeyValueMappingContext<>()
+				.getRequiredPersistentEntity(UnversionedSample.class);
+		Page<UnversionedSample> page = new PageImpl<>(List.of(new UnversionedSample(1L)));
+
+		assertThat(status.getStatusAndHeaders(new HttpHeaders(), page, unversioned)).isEmpty();
+	}
+
 	private void assertModified(StatusAndHeaders statusAndHeaders) {
 
 		assertThat(statusAndHeaders.isModified()).isTrue();
@@ -118,4 +199,9 @@ class ResourceStatusUnitTests {
 	static class Sample {
 		@Version int version;
 	}
+
+	@Value
+	static class UnversionedSample {
+		@Id Long id;
+	}
 }
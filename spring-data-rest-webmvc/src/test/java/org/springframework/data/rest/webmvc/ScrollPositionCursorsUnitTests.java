@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Links;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link ScrollPositionCursors}.
+ */
+class ScrollPositionCursorsUnitTests {
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void roundTripsKeysetPosition() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("lastname", "Matthews & Co");
+		keys.put("birthday", LocalDate.of(1967, 1, 19));
+		keys.put("id", 42L);
+
+		ScrollPosition position = ScrollPosition.backward(keys);
+
+		assertThat(ScrollPositionCursors.toCursor(position).map(ScrollPositionCursors::fromCursor))
+				.hasValueSatisfying(it -> {
+					assertThat(it).isInstanceOfSatisfying(KeysetScrollPosition.class, keyset -> {
+						assertThat(keyset.scrollsBackward()).isTrue();
+						assertThat(keyset.getKeys()).isEqualTo(keys);
+					});
+				});
+	}
+
+	@Test
+	void roundTripsOffsetPosition() {
+
+		assertThat(ScrollPositionCursors.toCursor(ScrollPosition.offset(41)).map(ScrollPositionCursors::fromCursor))
+				.hasValue(ScrollPosition.offset(41));
+	}
+
+	@Test
+	void doesNotCreateCursorForUnsupportedKeyType() {
+		assertThat(ScrollPositionCursors.toCursor(ScrollPosition.forward(Map.of("key", new Object())))).isEmpty();
+	}
+
+	@Test
+	void rejectsInvalidCursor() {
+
+		assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(() -> ScrollPositionCursors.fromCursor("%%%"));
+		assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(() -> ScrollPositionCursors.fromCursor("eA"));
+	}
+
+	@Test
+	void exposesNextLinkForInitialWindowWithMoreElements() {
+
+		startRequest("page=2");
+
+		Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(Map.of("id", index)),
+				true);
+
+		Links links = ScrollPositionCursors.getLinks(window, ScrollPosition.keyset(), "cursor", "page");
+
+		assertThat(links.getLink(IanaLinkRelations.PREV)).isEmpty();
+		assertThat(links.getLink(IanaLinkRelations.NEXT)).hasValueSatisfying(it -> {
+
+			assertThat(it.getHref()).contains("cursor=").doesNotContain("page=");
+
+			String cursor = it.getHref().substring(it.getHref().indexOf("cursor=") + "cursor=".length());
+
+			assertThat(ScrollPositionCursors.fromCursor(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 1)));
+		});
+	}
+
+	@Test
+	void exposesPreviousLinkForSubsequentWindow() {
+
+		startRequest("cursor=foo");
+
+		Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(Map.of("id", index)),
+				false);
+
+		Links links = ScrollPositionCursors.getLinks(window, ScrollPosition.forward(Map.of("id", 0)), "cursor", null);
+
+		assertThat(links.getLink(IanaLinkRelations.NEXT)).isEmpty();
+		assertThat(links.getLink(IanaLinkRelations.PREV)).map(it -> it.getHref())
+				.hasValueSatisfying(it -> assertThat(it).doesNotContain("cursor=foo"));
+	}
+
+	@Test
+	void doesNotExposeLinksForEmptyWindow() {
+
+		Window<String> window = Window.from(List.of(), index -> ScrollPosition.offset(index), true);
+
+		assertThat(ScrollPositionCursors.getLinks(window, null, "cursor", null)).isEmpty();
+	}
+
+	private static void startRequest(String query) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people");
+		request.setQueryString(query);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+}
@@ -87,6 +87,16 @@ class MappedPropertiesUnitTests {
 		assertThat(properties.getPersistentProperty("readOnlyProperty")).isNotNull();
 	}
 
+	@Test
+	void cachesMappedPropertiesPerEntityAndMapper() {
+
+		assertThat(MappedProperties.forDeserialization(entity, mapper)).isSameAs(properties);
+		assertThat(MappedProperties.forSerialization(entity, mapper)) //
+				.isSameAs(MappedProperties.forSerialization(entity, mapper)) //
+				.isNotSameAs(properties);
+		assertThat(MappedProperties.forDeserialization(entity, new ObjectMapper())).isNotSameAs(properties);
+	}
+
 	@Test // DATAREST-1383
 	void doesNotRegardReadOnlyPropertyForDeserialization() {
 
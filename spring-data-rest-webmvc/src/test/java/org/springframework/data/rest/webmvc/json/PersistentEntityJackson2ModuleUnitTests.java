@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.RepositoryInvoker;
@@ -49,13 +51,25 @@ import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.AssociationOmittingSerializerModifier;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.AssociationUriResolvingDeserializerModifier;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.EmbeddedAwareEntityModel;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.LookupObjectSerializer;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.NestedEntitySerializer;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.PersistentEntityResourceSerializer;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.DefaultCurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
 import org.springframework.hateoas.server.EntityLinks;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
 import org.springframework.plugin.core.PluginRegistry;
 
@@ -63,12 +77,16 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -98,6 +116,7 @@ class PersistentEntityJackson2ModuleUnitTests {
 		mappingContext.getPersistentEntity(Sample.class);
 		mappingContext.getPersistentEntity(SampleWithAdditionalGetters.class);
 		mappingContext.getPersistentEntity(PersistentEntityJackson2ModuleUnitTests.PetOwner.class);
+		mappingContext.getPersistentEntity(Shelter.class);
 		mappingContext.getPersistentEntity(Immutable.class);
 		mappingContext.getPersistentEntity(Wrapper.class);
 		mappingContext.getPersistentEntity(Surrounding.class);
@@ -195,6 +214,23 @@ class PersistentEntityJackson2ModuleUnitTests {
 				.isEqualTo(41);
 	}
 
+	@Test
+	void rejectsNonStringElementsInCollectionsOfAssociations() {
+
+		PersistentProperty<?> property = persistentEntities.getRequiredPersistentEntity(Shelter.class)
+				.getRequiredPersistentProperty("pets");
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+
+		assertThatExceptionOfType(MismatchedInputException.class) //
+				.isThrownBy(() -> mapper.readValue("{ \"pets\" : [ \"/pets/1\", { \"name\" : \"Garfield\" } ] }",
+						Shelter.class));
+		assertThatExceptionOfType(MismatchedInputException.class) //
+				.isThrownBy(() -> mapper.readValue("{ \"pets\" : [ 1 ] }", Shelter.class));
+
+		verify(converter, never()).convertAll(any(), any());
+	}
+
 	@Test // DATAREST-1393
 	void customizesDeserializerForCreatorProperties() throws Exception {
 
@@ -228,6 +264,76 @@ class PersistentEntityJackson2ModuleUnitTests {
 		assertThatNoException().isThrownBy(() -> mapper.writeValueAsString(model));
 	}
 
+	@Test
+	void rendersPersistentEntityResourceLikeEntityModel() throws Exception {
+
+		ObjectMapper halMapper = new ObjectMapper();
+		halMapper.registerModule(new Jackson2HalModule());
+		halMapper.setHandlerInstantiator(new HalHandlerInstantiator(new EvoInflectorLinkRelationProvider(),
+				new DefaultCurieProvider(Collections.emptyMap()), MessageResolver.DEFAULTS_ONLY));
+
+		LinkCollector collector = mock(LinkCollector.class);
+		SimpleModule module = new SimpleModule().addSerializer(new PersistentEntityResourceSerializer(collector));
+
+		halMapper.registerModule(module);
+		mapper.registerModule(module);
+
+		Sample sample = new Sample();
+		sample.name = "bar";
+
+		Sample embedded = new Sample();
+		embedded.name = "foo";
+
+		PersistentEntity<?, ?> entity = persistentEntities.getRequiredPersistentEntity(Sample.class);
+		EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
+
+		for (Links links : Arrays.asList(Links.NONE, Links.of(Link.of("/samples/1")))) {
+
+			when(collector.getLinksFor(any(), any())).thenReturn(links);
+
+			for (PersistentEntityResource resource : Arrays.asList(PersistentEntityResource.build(sample, entity).build(),
+					PersistentEntityResource.build(sample, entity) //
+							.withEmbedded(Collections.singletonList(wrappers.wrap(embedded, LinkRelation.of("sample")))) //
+							.build())) {
+
+				for (ObjectMapper objectMapper : Arrays.asList(halMapper, mapper)) {
+
+					String expected = objectMapper
+							.writeValueAsString(new EmbeddedAwareEntityModel(sample, links, resource.getEmbeddeds()));
+
+					assertThat(objectMapper.writeValueAsString(resource)).isEqualTo(expected);
+					assertThat(objectMapper.writeValueAsString(resource)).isEqualTo(expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	void rendersPersistentEntityResourceLikeEntityModelWithCustomizedContent() throws Exception {
+
+		LinkCollector collector = mock(LinkCollector.class);
+		Links links = Links.of(Link.of("/samples/1"));
+		when(collector.getLinksFor(any(), any())).thenReturn(links);
+
+		Sample sample = new Sample();
+		sample.name = "bar";
+
+		PersistentEntityResource resource = PersistentEntityResource
+				.build(sample, persistentEntities.getRequiredPersistentEntity(Sample.class)).build();
+
+		for (Class<?> mixin : Arrays.asList(PrefixedContentMixin.class, ToStringContentMixin.class)) {
+
+			ObjectMapper objectMapper = new ObjectMapper();
+			objectMapper.registerModule(new SimpleModule().addSerializer(new PersistentEntityResourceSerializer(collector)));
+			objectMapper.addMixIn(EntityModel.class, mixin);
+
+			String expected = objectMapper
+					.writeValueAsString(new EmbeddedAwareEntityModel(sample, links, resource.getEmbeddeds()));
+
+			assertThat(objectMapper.writeValueAsString(resource)).isEqualTo(expected);
+		}
+	}
+
 	/**
 	 * @author Oliver Gierke
 	 */
@@ -269,6 +375,11 @@ class PersistentEntityJackson2ModuleUnitTests {
 
 	static class Home {}
 
+	@Getter
+	static class Shelter {
+		List<Pet> pets;
+	}
+
 	static class Sample {
 		public @JsonProperty("foo") String name;
 	}
@@ -307,6 +418,19 @@ class PersistentEntityJackson2ModuleUnitTests {
 		CustomType custom = new CustomType();
 	}
 
+	abstract static class PrefixedContentMixin {
+
+		@JsonUnwrapped(prefix = "content.")
+		abstract Object getContent();
+	}
+
+	abstract static class ToStringContentMixin {
+
+		@JsonUnwrapped
+		@JsonSerialize(using = ToStringSerializer.class)
+		abstract Object getContent();
+	}
+
 	static class CustomType {}
 
 	static class CustomTypeSerializer extends StdSerializer<CustomType> {
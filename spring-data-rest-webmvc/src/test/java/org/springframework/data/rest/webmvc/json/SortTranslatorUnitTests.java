@@ -25,7 +25,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
@@ -77,6 +79,18 @@ class SortTranslatorUnitTests {
 		assertThat(translatedSort.getOrderFor("name")).isNotNull();
 	}
 
+	@Test
+	void translatesRepeatedSortsFromCacheConsistently() {
+
+		PersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Plain.class);
+
+		Sort first = sortTranslator.translateSort(Sort.by("hello", "name"), entity);
+		Sort second = sortTranslator.translateSort(Sort.by(Direction.DESC, "hello", "name"), entity);
+
+		assertThat(first).isEqualTo(Sort.by("name"));
+		assertThat(second).isEqualTo(Sort.by(Direction.DESC, "name"));
+	}
+
 	@Test // DATAREST-883
 	void returnsNullSortIfNoPropertiesMatch() {
 
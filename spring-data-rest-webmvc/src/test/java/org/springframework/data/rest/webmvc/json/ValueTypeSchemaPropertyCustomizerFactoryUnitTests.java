@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.config.MetadataConfiguration;
+import org.springframework.data.rest.webmvc.json.JsonSchema.EnumProperty;
+import org.springframework.data.rest.webmvc.json.JsonSchema.JsonSchemaProperty;
+import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter.ValueTypeSchemaPropertyCustomizerFactory;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link ValueTypeSchemaPropertyCustomizerFactory}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ValueTypeSchemaPropertyCustomizerFactoryUnitTests {
+
+	@Mock RepositoryInvokerFactory invokerFactory;
+	@Mock RepositoryInvoker invoker;
+	@Mock Repositories repositories;
+	@Mock RepositoryInformation repositoryInformation;
+
+	MetadataConfiguration configuration = new MetadataConfiguration();
+	ValueTypeSchemaPropertyCustomizerFactory factory;
+
+	@BeforeEach
+	void setUp() {
+
+		when(invokerFactory.getInvokerFor(Lookup.class)).thenReturn(invoker);
+
+		this.factory = new ValueTypeSchemaPropertyCustomizerFactory(invokerFactory, configuration, repositories);
+	}
+
+	@Test
+	void enumeratesSortedValuesOfLookupType() {
+
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(Arrays.asList("b", "a"));
+
+		assertThat(customize()).isInstanceOfSatisfying(EnumProperty.class,
+				it -> assertThat(it.getValues()).containsExactly("a", "b"));
+	}
+
+	@Test
+	void readsValuesOnlyOnceWithinTimeToLive() {
+
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(Arrays.asList("a"));
+
+		customize();
+		customize();
+
+		verify(invoker, times(1)).invokeFindAll(PageRequest.of(0, 101));
+	}
+
+	@Test
+	void rereadsValuesIfCachingIsDisabled() {
+
+		configuration.setLookupTypeEnumerationTimeToLive(Duration.ZERO);
+
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(Arrays.asList("a"));
+
+		customize();
+		customize();
+
+		verify(invoker, times(2)).invokeFindAll(any(Pageable.class));
+	}
+
+	@Test
+	void fallsBackToStringForLookupTypesExceedingTheLimit() {
+
+		configuration.setLookupTypeEnumerationLimit(2);
+
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(Arrays.asList("a", "b", "c"));
+
+		JsonSchemaProperty property = customize();
+
+		assertThat(property).isNotInstanceOf(EnumProperty.class);
+		assertThat(property.type).isEqualTo("string");
+		verify(invoker).invokeFindAll(PageRequest.of(0, 3));
+	}
+
+	@Test
+	void readsValuesThroughSliceQueryMethodIfDeclared() throws Exception {
+
+		Method method = LookupRepository.class.getMethod("findAllBy", Pageable.class);
+
+		when(repositories.getRepositoryInformationFor(Lookup.class)).thenReturn(Optional.of(repositoryInformation));
+		when(repositoryInformation.getQueryMethods()).thenReturn(Streamable.of(method));
+		when(invoker.invokeQueryMethod(eq(method), any(), any(), any()))
+				.thenReturn(Optional.of(new SliceImpl<>(Arrays.asList("b", "a"))));
+
+		assertThat(customize()).isInstanceOfSatisfying(EnumProperty.class,
+				it -> assertThat(it.getValues()).containsExactly("a", "b"));
+
+		verify(invoker).invokeQueryMethod(eq(method), any(), eq(PageRequest.of(0, 101)), any());
+		verify(invoker, never()).invokeFindAll(any(Pageable.class));
+	}
+
+	@Test
+	void capsLimitToReadOneMoreValue() {
+
+		configuration.setLookupTypeEnumerationLimit(Integer.MAX_VALUE);
+
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(Arrays.asList("a"));
+
+		customize();
+
+		verify(invoker).invokeFindAll(PageRequest.of(0, Integer.MAX_VALUE));
+	}
+
+	private JsonSchemaProperty customize() {
+
+		return factory.getCustomizerFor(Lookup.class) //
+				.customize(new JsonSchemaProperty("lookup", null, null, false), ClassTypeInformation.from(Lookup.class));
+	}
+
+	static class Lookup {}
+
+	interface LookupRepository {
+		Slice<Lookup> findAllBy(Pageable pageable);
+	}
+}
@@ -64,9 +64,36 @@ class BackendIdHandlerMethodArgumentResolverUnitTests {
 		verify(converter, never()).fromRequestId(eq(null), any());
 	}
 
+	@Test
+	void resolvesIdentifierOncePerRequestAndHandlerMethod() throws Exception {
+
+		ResourceMetadata metadata = mock(ResourceMetadata.class);
+
+		doReturn(metadata).when(delegate).resolveArgument(any(), any(), any(), any());
+		doReturn(Object.class).when(metadata).getDomainType();
+		doReturn(true).when(converter).supports(any());
+		doReturn(4711L).when(converter).fromRequestId("4711", Object.class);
+
+		MethodParameter parameter = new MethodParameter(
+				Sample.class.getMethod("sampleMethodWithId", Serializable.class, Object.class), 0);
+		ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/people/4711"));
+
+		Serializable first = resolver.resolveArgument(parameter, new ModelAndViewContainer(), request,
+				mock(WebDataBinderFactory.class));
+		Serializable second = resolver.resolveArgument(new MethodParameter(parameter.getMethod(), 1),
+				new ModelAndViewContainer(), request, mock(WebDataBinderFactory.class));
+
+		assertThat(first).isEqualTo(4711L);
+		assertThat(second).isEqualTo(4711L);
+		verify(converter, times(1)).fromRequestId("4711", Object.class);
+	}
+
 	interface Sample {
 
 		@RequestMapping("/{repository}")
 		void sampleMethod(Serializable parameter);
+
+		@RequestMapping("/{repository}/{id}")
+		void sampleMethodWithId(Serializable parameter, Object other);
 	}
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Unit tests for {@link ClassGeneratingProjectionFactory}.
+ */
+class ClassGeneratingProjectionFactoryUnitTests {
+
+	ClassGeneratingProjectionFactory factory = new ClassGeneratingProjectionFactory(
+			new SpelAwareProxyProjectionFactory());
+
+	@Test
+	void createsGeneratedImplementationForGetterBackedProjection() {
+
+		Person person = new Person("Dave", "Matthews", 42);
+
+		Summary summary = factory.createProjection(Summary.class, person);
+
+		assertThat(Proxy.isProxyClass(summary.getClass())).isFalse();
+		assertThat(summary.getClass().getInterfaces()[0]).isEqualTo(Summary.class);
+		assertThat(summary.getFirstname()).isEqualTo("Dave");
+		assertThat(summary.getAge()).isEqualTo(42);
+		assertThat(summary.getFullname()).isEqualTo("Dave Matthews");
+		assertThat(summary).isInstanceOfSatisfying(TargetAware.class, it -> {
+			assertThat(it.getTarget()).isSameAs(person);
+			assertThat(it.getTargetClass()).isEqualTo(Person.class);
+		});
+	}
+
+	@Test
+	void reusesGeneratedImplementationForSameSourceType() {
+
+		Summary first = factory.createProjection(Summary.class, new Person("Dave", "Matthews", 42));
+		Summary second = factory.createProjection(Summary.class, new Person("Carter", "Beauford", 65));
+
+		assertThat(first.getClass()).isSameAs(second.getClass());
+		assertThat(second.getFirstname()).isEqualTo("Carter");
+	}
+
+	@Test
+	void fallsBackToProxyForValueExpressions() {
+
+		WithExpression projection = factory.createProjection(WithExpression.class, new Person("Dave", "Matthews", 42));
+
+		assertThat(Proxy.isProxyClass(projection.getClass())).isTrue();
+		assertThat(projection.getName()).isEqualTo("Dave Matthews");
+	}
+
+	@Test
+	void fallsBackToProxyForIncompatibleReturnTypes() {
+
+		WithConversion projection = factory.createProjection(WithConversion.class, new Person("Dave", "Matthews", 42));
+
+		assertThat(Proxy.isProxyClass(projection.getClass())).isTrue();
+		assertThat(projection.getAge()).isEqualTo(42L);
+	}
+
+	public interface Summary {
+
+		String getFirstname();
+
+		int getAge();
+
+		String getLastname();
+
+		default String getFullname() {
+			return getFirstname() + " " + getLastname();
+		}
+	}
+
+	public interface WithExpression {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getName();
+	}
+
+	public interface WithConversion {
+		Long getAge();
+	}
+
+	public static class Person {
+
+		private final String firstname, lastname;
+		private final int age;
+
+		public Person(String firstname, String lastname, int age) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		public int getAge() {
+			return age;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * Unit tests for {@link MetadataDocumentCache}.
+ */
+class MetadataDocumentCacheUnitTests {
+
+	MetadataDocumentCache cache = new MetadataDocumentCache(new ObjectMapper(), CacheControl::noCache);
+	AtomicInteger invocations = new AtomicInteger();
+	Supplier<Object> document = () -> Collections.singletonMap("invocation", invocations.incrementAndGet());
+
+	@BeforeEach
+	void setUp() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		RequestContextHolder.resetRequestAttributes();
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	void createsDocumentOnlyOnce() {
+
+		ResponseEntity<?> first = cache.getDocument(Object.class, new HttpHeaders(), document);
+		ResponseEntity<?> second = cache.getDocument(Object.class, new HttpHeaders(), document);
+
+		assertThat(invocations.get()).isEqualTo(1);
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(first.getBody()).isInstanceOfSatisfying(RawValue.class,
+				it -> assertThat(it.rawValue()).isEqualTo("{\"invocation\":1}"));
+		assertThat(first.getHeaders().getETag()).startsWith("\"").isEqualTo(second.getHeaders().getETag());
+		assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+	}
+
+	@Test
+	void answersMatchingConditionalRequestWithNotModified() {
+
+		String etag = cache.getDocument(Object.class, new HttpHeaders(), document).getHeaders().getETag();
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(etag);
+
+		ResponseEntity<?> response = cache.getDocument(Object.class, headers, document);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+		assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+	}
+
+	@Test
+	void createsSeparateDocumentsPerLocale() {
+
+		cache.getDocument(Object.class, new HttpHeaders(), document);
+
+		LocaleContextHolder.setLocale(Locale.GERMAN);
+
+		ResponseEntity<?> response = cache.getDocument(Object.class, new HttpHeaders(), document);
+
+		assertThat(invocations.get()).isEqualTo(2);
+		assertThat(response.getBody()).isInstanceOfSatisfying(RawValue.class,
+				it -> assertThat(it.rawValue()).isEqualTo("{\"invocation\":2}"));
+	}
+
+	@Test
+	void keepsDocumentWithinTimeToLive() {
+
+		MetadataDocumentCache cache = new MetadataDocumentCache(new ObjectMapper(), CacheControl::noCache,
+				() -> Duration.ofMinutes(10));
+
+		cache.getDocument(Object.class, new HttpHeaders(), document);
+		cache.getDocument(Object.class, new HttpHeaders(), document);
+
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCacheDocumentForZeroTimeToLive() {
+
+		MetadataDocumentCache cache = new MetadataDocumentCache(new ObjectMapper(), CacheControl::noCache,
+				() -> Duration.ZERO);
+
+		cache.getDocument(Object.class, new HttpHeaders(), document);
+		ResponseEntity<?> response = cache.getDocument(Object.class, new HttpHeaders(), document);
+
+		assertThat(invocations.get()).isEqualTo(2);
+		assertThat(response.getBody()).isInstanceOfSatisfying(RawValue.class,
+				it -> assertThat(it.rawValue()).isEqualTo("{\"invocation\":2}"));
+	}
+}